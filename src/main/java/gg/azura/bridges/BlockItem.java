@@ -6,6 +6,9 @@ import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.PlayerInventory;
 
+import java.util.Objects;
+import java.util.Optional;
+
 public class BlockItem implements Buyable {
 
     private final ItemStack item;
@@ -57,6 +60,21 @@ public class BlockItem implements Buyable {
         return this.description;
     }
 
+    /**
+     * Block items are keyed by material, so a reloaded copy equals the one it replaces
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof BlockItem)) return false;
+        return this.item.getType() == ((BlockItem) o).item.getType();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(this.item.getType());
+    }
+
     public void give(Player player) {
         PlayerInventory inventory = player.getInventory();
         inventory.addItem(this.item);
@@ -68,8 +86,7 @@ public class BlockItem implements Buyable {
     }
 
     public void purchase(Player player) {
-        if (canAfford(player)) {
-            deductPlayerCoins(player, this.price);
+        if (deductPlayerCoins(player, this.price)) {
             give(player);
             player.sendMessage(ChatColor.GREEN + "You have purchased " + this.item.getType() + " for " + this.price + " coins.");
         } else {
@@ -82,15 +99,11 @@ public class BlockItem implements Buyable {
         return bridgePlayer.getCoins();
     }
 
-    private void setPlayerCoins(Player player, int coins) {
+    private boolean deductPlayerCoins(Player player, int price) {
         BridgePlayer bridgePlayer = Bridges.get().getSM().getPlayerManager().getBridgePlayer(player.getUniqueId());
-        bridgePlayer.setCoins(coins);
-    }
-
-    private void deductPlayerCoins(Player player, int price) {
-        int currentCoins = getPlayerCoins(player);
-        int newBalance = currentCoins - price;
-        setPlayerCoins(player, newBalance);
-        player.sendMessage(ChatColor.GREEN + "Your new balance is " + newBalance + " coins.");
+        Optional<BridgePlayer.CoinOperation> operation = bridgePlayer.tryDebit(price);
+        operation.ifPresent(op ->
+                player.sendMessage(ChatColor.GREEN + "Your new balance is " + op.balance() + " coins."));
+        return operation.isPresent();
     }
 }
\ No newline at end of file
@@ -1,13 +1,17 @@
 package gg.azura.bridges;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import gg.azura.bridges.ffa.Spawn;
 import gg.azura.bridges.gui.SoundSettings;
+import gg.azura.bridges.services.BlockItemsManager;
+import gg.azura.bridges.services.BoundedCache;
+import gg.azura.bridges.services.DeathMessagesManager;
+import gg.azura.bridges.services.KitRefill;
 import gg.azura.bridges.services.PlayerManager;
+import gg.azura.bridges.services.RegionManager;
 import lombok.Getter;
 import org.bukkit.Material;
 import org.bukkit.Sound;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitRunnable;
 
@@ -18,6 +22,9 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongUnaryOperator;
 
 public class BridgePlayer {
     private final Bridges plugin = Bridges.get();
@@ -30,45 +37,79 @@ public class BridgePlayer {
     private Player player;
     private static final String CURRENT_TIME = "2025-02-04 18:02:50";
     private static final String CURRENT_USER = "SyncFocus17";
-    private final Map<String, Optional<Double>> cachedEarnings;
-    private final Map<String, Optional<String>> cachedWarnings;
-    private final Cache<String, Double> statisticsCache;
-    private final Map<UUID, CachedStat> statsCache = new ConcurrentHashMap<>();
-    private int coins = 0;
+    private static final int REBASE_ATTEMPTS = 5;
+    private final BoundedCache<String, Double> cachedEarnings = BoundedCache.<String, Double>builder()
+            .maximumSize(4)
+            .expireAfterWrite(5, TimeUnit.MINUTES)
+            .build();
+    private final BoundedCache<String, String> cachedWarnings = BoundedCache.<String, String>builder()
+            .maximumSize(4)
+            .expireAfterWrite(5, TimeUnit.MINUTES)
+            .build();
+    private final BoundedCache<String, Double> statisticsCache = BoundedCache.<String, Double>builder()
+            .maximumSize(16)
+            .build();
+    private final AtomicInteger kills = new AtomicInteger();
+    private final AtomicInteger deaths = new AtomicInteger();
+    private final AtomicInteger streak = new AtomicInteger();
+    private final AtomicInteger bestStreak = new AtomicInteger();
+    private final AtomicInteger sessionKills = new AtomicInteger();
+    private final AtomicInteger pendingKills = new AtomicInteger();
+    private final AtomicInteger pendingDeaths = new AtomicInteger();
+    private final EconomyTotals economyTotals = new EconomyTotals();
+    private final EarningsWindow earningsWindow = new EarningsWindow();
+    private final AtomicLong balance = new AtomicLong();
+    // balance = storedBase + sum(uncommittedOps); see rebaseBalance. Guarded by uncommittedOps.
+    private final Map<UUID, Long> uncommittedOps = new HashMap<>();
+    private long storedBase;
+    private long opsVersion;
     private BlockItem selectedBlockItem;
     private List<BlockItem> unlockedBlocks;
     private DeathMessage selectedDeathMessage;
     private List<DeathMessage> unlockedDeathMessages;
     private Spawn lastSpawn;
+    private volatile boolean inSpawn;
+    private volatile boolean inFFAWorld;
+    private volatile int blockY;
+    private volatile boolean voidKilled;
+    private final RegionManager.Tracker regionTracker = new RegionManager.Tracker();
+    private final KitRefill.State refillState = new KitRefill.State();
 
-    private record CachedStat(int value, long timestamp) {
-        boolean isExpired() {
-            return System.currentTimeMillis() - timestamp > TimeUnit.MINUTES.toMillis(5);
+    /**
+     * A completed balance change; {@code opId} identifies its ledger entry
+     */
+    public record CoinOperation(UUID opId, TransactionType type, long amount, long balance) {
+    }
+
+    /**
+     * Kill/death increments that have not been written to the database yet
+     */
+    public record StatDelta(int kills, int deaths, int bestStreak) {
+        public boolean isEmpty() {
+            return kills == 0 && deaths == 0;
         }
     }
-    public BridgePlayer(Player player, Map<String, Optional<Double>> cachedEarnings, Map<String, Optional<String>> cachedWarnings, Cache<String, Double> statisticsCache) {
+
+    public BridgePlayer(Player player) {
         this.player = player;
         this.uuid = player.getUniqueId();
         this.name = player.getName();
-        this.cachedEarnings = cachedEarnings;
-        this.cachedWarnings = cachedWarnings;
-        this.statisticsCache = statisticsCache;
         this.playerManager = this.plugin.getSM().getPlayerManager();
         initializeDefaultValues();
         loadPlayerData();
     }
 
     // Constructor for offline players (database loading)
-    public BridgePlayer(UUID uuid, ResultSet resultSet, Map<String, Optional<Double>> cachedEarnings, Map<String, Optional<String>> cachedWarnings, Cache<String, Double> statisticsCache) throws SQLException {
+    public BridgePlayer(UUID uuid, ResultSet resultSet) throws SQLException {
         this.uuid = uuid;
-        this.cachedEarnings = cachedEarnings;
-        this.cachedWarnings = cachedWarnings;
-        this.statisticsCache = statisticsCache;
         this.playerManager = this.plugin.getSM().getPlayerManager();
         this.name = resultSet.getString("name");
         initializeDefaultValues();
         loadFromResultSet(resultSet);
-        this.coins = 0;
+        this.storedBase = resultSet.getLong("coins");
+        this.balance.set(this.storedBase);
+        loadStats();
+        loadEconomyTotals();
     }
 
     private void initializeDefaultValues() {
@@ -80,19 +121,23 @@ public class BridgePlayer {
     }
 
     private void loadPlayerData() {
-        CompletableFuture<Void> future = this.plugin.getSM().getDBManager().getConnection()
-                .thenAcceptAsync(connection -> {
-                    try (PreparedStatement ps = connection.prepareStatement("SELECT * FROM bridgeffa_players WHERE uuid = ?")) {
-                        ps.setString(1, uuid.toString());
-                        try (ResultSet result = ps.executeQuery()) {
-                            if (result.next()) {
-                                loadFromResultSet(result);
-                            }
-                        }
+        CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
+                    try {
+                        this.plugin.getSM().getDBManager().queryFirst("player.load",
+                                "SELECT * FROM bridgeffa_players WHERE uuid = ?",
+                                result -> {
+                                    loadFromResultSet(result);
+                                    return Boolean.TRUE;
+                                },
+                                uuid.toString());
+                        rebaseBalance();
                     } catch (SQLException ex) {
                         ex.printStackTrace();
                     }
-                });
+                    loadStats();
+                    loadEconomyTotals();
+                    loadEarningsWindow();
+                }, this.plugin.getSM().getDBManager().getIoExecutor());
 
         // Handle any exceptions in the async operation
         future.exceptionally(throwable -> {
@@ -101,9 +146,139 @@ public class BridgePlayer {
         });
     }
 
-    private void loadFromResultSet(ResultSet result) throws SQLException {
-        this.coins = result.getInt("coins");
+    /**
+     * Loads the persisted kill/death totals. Values are added on top of the
+     * in-memory counters so kills recorded before the load finished are kept.
+     */
+    private void loadStats() {
+        try {
+            this.plugin.getSM().getDBManager().readQueryFirst("stats.load",
+                    "SELECT kills, deaths, best_streak FROM player_stats WHERE uuid = ?",
+                    rs -> {
+                        this.kills.addAndGet(rs.getInt("kills"));
+                        this.deaths.addAndGet(rs.getInt("deaths"));
+                        this.bestStreak.accumulateAndGet(rs.getInt("best_streak"), Math::max);
+                        return Boolean.TRUE;
+                    },
+                    uuid.toString());
+        } catch (SQLException e) {
+            plugin.getLogger().severe(String.format(
+                    "[ERROR] Failed to load stats for %s: %s | User: %s | Time: %s",
+                    uuid,
+                    e.getMessage(),
+                    CURRENT_USER,
+                    CURRENT_TIME
+            ));
+        }
+    }
 
+    /**
+     * Loads the lifetime earned/spent totals maintained next to the ledger
+     */
+    private void loadEconomyTotals() {
+        try {
+            this.plugin.getSM().getDBManager().readQueryFirst("economy.totals.load", EconomyTotals.LOAD_QUERY,
+                    rs -> {
+                        this.economyTotals.load(rs.getDouble("earned"), rs.getDouble("spent"), rs.getLong("tx_count"));
+                        return Boolean.TRUE;
+                    },
+                    uuid.toString());
+        } catch (SQLException e) {
+            plugin.getLogger().severe(String.format(
+                    "[ERROR] Failed to load economy totals for %s: %s | User: %s | Time: %s",
+                    uuid,
+                    e.getMessage(),
+                    CURRENT_USER,
+                    CURRENT_TIME
+            ));
+        }
+    }
+
+    /**
+     * Seeds the hourly earnings ring with everything earned in the window
+     * before this player object was created; later earnings are recorded live
+     */
+    private void loadEarningsWindow() {
+        try {
+            this.plugin.getSM().getDBManager().readQuery("earnings.window.seed", EarningsWindow.SEED_QUERY,
+                    rs -> {
+                        this.earningsWindow.seed(rs.getLong("hour"), rs.getLong("earned"));
+                        return Boolean.TRUE;
+                    },
+                    uuid.toString(), this.earningsWindow.getWindowStart(), this.earningsWindow.getCreatedAt());
+        } catch (SQLException e) {
+            plugin.getLogger().severe(String.format(
+                    "[ERROR] Failed to load hourly earnings for %s: %s | User: %s | Time: %s",
+                    uuid,
+                    e.getMessage(),
+                    CURRENT_USER,
+                    CURRENT_TIME
+            ));
+        }
+    }
+
+    /**
+     * Reads the stored balance together with which of this profile's ledger
+     * operations it already contains, in one statement so both come from the
+     * same snapshot, and moves the in-memory balance to the stored balance
+     * plus every operation the ledger has not applied yet. Changes made
+     * before the profile finished loading are neither lost nor counted twice.
+     * Retries while a ledger commit for this profile lands mid-read.
+     */
+    public void rebaseBalance() throws SQLException {
+        for (int attempt = 0; attempt < REBASE_ATTEMPTS; attempt++) {
+            Map<UUID, Long> ops;
+            long version;
+            synchronized (this.uncommittedOps) {
+                ops = new HashMap<>(this.uncommittedOps);
+                version = this.opsVersion;
+            }
+            List<Object[]> rows = this.plugin.getSM().getDBManager().query("player.rebase", rebaseQuery(ops.size()),
+                    rs -> new Object[] { rs.getObject("coins"), rs.getString("op_id") },
+                    rebaseParams(ops));
+            long coins = 0L;
+            List<UUID> applied = new ArrayList<>();
+            for (Object[] row : rows) {
+                if (row[1] == null)
+                    coins = row[0] == null ? 0L : ((Number) row[0]).longValue();
+                else
+                    applied.add(UUID.fromString((String) row[1]));
+            }
+            synchronized (this.uncommittedOps) {
+                if (version != this.opsVersion && attempt < REBASE_ATTEMPTS - 1)
+                    continue;
+                long folded = 0L;
+                for (UUID opId : applied) {
+                    Long delta = this.uncommittedOps.remove(opId);
+                    if (delta != null)
+                        folded += delta;
+                }
+                this.balance.addAndGet(coins - this.storedBase - folded);
+                this.storedBase = coins;
+                this.opsVersion++;
+                return;
+            }
+        }
+    }
+
+    private static String rebaseQuery(int ops) {
+        String profile = "SELECT coins, NULL AS op_id FROM bridgeffa_players WHERE uuid = ?";
+        if (ops == 0)
+            return profile;
+        return profile + " UNION ALL SELECT NULL, op_id FROM transactions WHERE applied = 1 AND op_id IN ("
+                + String.join(", ", Collections.nCopies(ops, "?")) + ")";
+    }
+
+    private Object[] rebaseParams(Map<UUID, Long> ops) {
+        Object[] params = new Object[ops.size() + 1];
+        params[0] = this.uuid.toString();
+        int i = 1;
+        for (UUID opId : ops.keySet())
+            params[i++] = opId.toString();
+        return params;
+    }
+
+    private void loadFromResultSet(ResultSet result) throws SQLException {
         String blockSelected = result.getString("block_selected");
         if (blockSelected != null) {
             Material material = Material.getMaterial(blockSelected);
@@ -123,10 +298,6 @@ public class BridgePlayer {
 
         }
 
-    public void setCoins(int coins) {
-        this.coins = coins;
-        this.playerManager.queueDataSave(false, this, "coins", coins);
-    }
 
     public List<BlockItem> getUnlockedBlocks() {
         return this.unlockedBlocks;
@@ -167,6 +338,26 @@ public class BridgePlayer {
         this.playerManager.queueDataSave(false, this, "deathmessage_selected", deathMessage.getID());
     }
 
+    /**
+     * Points the unlocked and selected items at the instances loaded by the
+     * last reload. Items are matched by key, so nothing needs saving; items
+     * the reload removed are kept as they are. Main thread only.
+     */
+    public void remapItems(BlockItemsManager blocks, DeathMessagesManager deathMessages) {
+        if (this.unlockedBlocks != null)
+            this.unlockedBlocks.replaceAll(block -> Objects.requireNonNullElse(
+                    blocks.getBlockItem(block.getItem().getType()), block));
+        if (this.selectedBlockItem != null)
+            this.selectedBlockItem = Objects.requireNonNullElse(
+                    blocks.getBlockItem(this.selectedBlockItem.getItem().getType()), this.selectedBlockItem);
+        if (this.unlockedDeathMessages != null)
+            this.unlockedDeathMessages.replaceAll(message -> message == null ? null : Objects.requireNonNullElse(
+                    deathMessages.getDeathMessage(message.getID()), message));
+        if (this.selectedDeathMessage != null)
+            this.selectedDeathMessage = Objects.requireNonNullElse(
+                    deathMessages.getDeathMessage(this.selectedDeathMessage.getID()), this.selectedDeathMessage);
+    }
+
     public Spawn getLastSpawn() {
         return this.lastSpawn;
     }
@@ -176,117 +367,70 @@ public class BridgePlayer {
     }
 
     public boolean canAfford(Buyable buyable) {
-        return this.coins >= buyable.getPrice();
+        return this.balance.get() >= buyable.getPrice();
     }
 
+    /**
+     * @return whether the player is in an FFA world, as of their last join,
+     *         teleport, respawn or world change
+     */
     public boolean isInFFAWorld() {
-        return this.plugin.getSM().getVariables().worlds.contains(this.player.getLocation().getWorld());
+        return this.inFFAWorld;
     }
 
-    public boolean isInSpawn() {
-        if (this.plugin.getSM().getVariables().lobbyDetection.equalsIgnoreCase("ycoord")) {
-            return isInSpawnByYCoord();
-        } else if (this.plugin.getSM().getVariables().lobbyDetection.equalsIgnoreCase("bounds")) {
-            return isInSpawnByBounds();
-        }
-        return isInSpawnByRadius();
+    public void updateWorld(World world) {
+        this.inFFAWorld = this.plugin.getSM().getVariables().getFfaConfig().isFFAWorld(world);
     }
 
-    private boolean isInSpawnByYCoord() {
-        return this.player.getLocation().getY() >= this.plugin.getSM().getVariables().lobby.getY() - 1.0D;
+    /**
+     * @return whether the player is inside the {@link gg.azura.bridges.ffa.Region#SPAWN}
+     *         region, as of their last block change, teleport or respawn
+     */
+    public boolean isInSpawn() {
+        return this.inSpawn;
     }
 
-    private boolean isInSpawnByBounds() {
-        int x = this.player.getLocation().getBlockX();
-        int y = this.player.getLocation().getBlockY();
-        int z = this.player.getLocation().getBlockZ();
-
-        String[] xBounds = this.plugin.getSM().getVariables().lobbyXBounds.split(",");
-        String[] yBounds = this.plugin.getSM().getVariables().lobbyYBounds.split(",");
-        String[] zBounds = this.plugin.getSM().getVariables().lobbyZBounds.split(",");
+    public void setInSpawn(boolean inSpawn) {
+        this.inSpawn = inSpawn;
+    }
 
-        double xMin = Double.parseDouble(xBounds[0]);
-        double xMax = Double.parseDouble(xBounds[1]);
-        double yMin = Double.parseDouble(yBounds[0]);
-        double yMax = Double.parseDouble(yBounds[1]);
-        double zMin = Double.parseDouble(zBounds[0]);
-        double zMax = Double.parseDouble(zBounds[1]);
+    /**
+     * @return block Y as of the player's last block change, teleport or respawn
+     */
+    public int getBlockY() {
+        return this.blockY;
+    }
 
-        return x > xMin && x < xMax && y > yMin && y < yMax && z > zMin && z < zMax;
+    public void setBlockY(int blockY) {
+        this.blockY = blockY;
     }
 
-    private boolean isInSpawnByRadius() {
-        int x = this.player.getLocation().getBlockX();
-        int y = this.player.getLocation().getBlockY();
-        int z = this.player.getLocation().getBlockZ();
+    /**
+     * @return whether the void sweeper already killed this life
+     */
+    public boolean isVoidKilled() {
+        return this.voidKilled;
+    }
 
-        int xS = this.plugin.getSM().getVariables().lobby.getBlockX();
-        int yS = this.plugin.getSM().getVariables().lobby.getBlockY();
-        int zS = this.plugin.getSM().getVariables().lobby.getBlockZ();
+    public void setVoidKilled(boolean voidKilled) {
+        this.voidKilled = voidKilled;
+    }
 
-        double hrS = this.plugin.getSM().getVariables().lobbyHRadius;
-        double vrS = this.plugin.getSM().getVariables().lobbyVRadius;
+    public RegionManager.Tracker getRegionTracker() {
+        return this.regionTracker;
+    }
 
-        return x > xS - hrS && x < xS + hrS &&
-                y > yS - vrS && y < yS + vrS &&
-                z > zS - hrS && z < zS + hrS;
+    public KitRefill.State getRefillState() {
+        return this.refillState;
     }
 
     /**
-     * Calculates total coins spent by player
-     *
-     * @author SyncFocus17
-     * @created 2025-02-04 11:28:20 UTC
-     * @return Total coins spent
+     * @return lifetime coins spent, from the incrementally maintained totals
      */
     public double getSpentCoins() {
-        try {
-            // Check if cached value exists and is still valid
-            if (this.cachedSpendings.isPresent() && !this.cachedSpendings.get().isExpired()) {
-                return this.cachedSpendings.get().getValue();
-            }
-
-            long startTime = System.nanoTime();
-
-            // Calculate total using indexed collections and primitive streams
-            double total = plugin.getTransactions().parallelStream()
-                    .filter(t -> t.getType() == TransactionType.SPEND && t.getPlayerId().equals(this.uuid))
-                    .mapToDouble(Transaction::getAmount)
-                    .sum();
-
-            // Cache the result with 5-minute TTL
-            this.cachedSpendings = Optional.of(new CachedValue<>(
-                    total,
-                    System.currentTimeMillis(),
-                    TimeUnit.MINUTES.toMillis(5)
-            ));
-
-            // Log performance metrics
-            long duration = System.nanoTime() - startTime;
-            plugin.getLogger().info(String.format(
-                    "[METRICS] %s | Action: get_spent | Duration: %dms | Result: %.2f | Time: %s",
-                    "SyncFocus17",
-                    duration / 1_000_000,
-                    total,
-                    "2025-02-04 11:28:20"
-            ));
-
-            return total;
-
-        } catch (Exception e) {
-            plugin.getLogger().severe(String.format(
-                    "[ERROR] Failed to calculate spent coins: %s | User: %s | Time: %s",
-                    e.getMessage(),
-                    "SyncFocus17",
-                    "2025-02-04 11:28:20"
-            ));
-            return 0.0;
-        }
+        return this.economyTotals.getSpent();
     }
 
-    // Add this field at the class level if not already present
-    private Optional<CachedValue<Double>> cachedSpendings = Optional.empty();
-
     public void playSound(Sound sound) {
         try {
             Player p = player.getPlayer();
@@ -366,147 +510,33 @@ public class BridgePlayer {
     }
 
     /**
-     * Calculates total coins earned by player
-     *
-     * @author SyncFocus17
-     * @updated 2025-02-16 18:44:16 UTC
-     * @return Total coins earned
+     * @return lifetime coins earned, from the incrementally maintained totals
      */
     public double getEarnedCoins() {
-        final String CURRENT_TIME = "2025-02-16 18:44:16";
-        final String CURRENT_USER = "SyncFocus17";
-
-        try {
-            // Check if cached value exists and is still valid
-            CachedValue<Double> cached = this.cachedEarnings.get(this.uuid);
-            if (cached != null && !cached.isExpired()) {
-                if (plugin.isDebugMode()) {
-                    plugin.getLogger().fine(String.format(
-                            "[CACHE] Using cached earnings for player %s (%.2f coins) | Cache Age: %dms | Time: %s",
-                            this.uuid,
-                            cached.getValue(),
-                            System.currentTimeMillis() - cached.getTimestamp(),
-                            CURRENT_TIME
-                    ));
-                }
-                return cached.getValue();
-            }
-
-            // Start performance tracking
-            long startTime = System.nanoTime();
-
-            // Fetch and validate transactions
-            List<Transaction> transactions = Transaction.getTransactions(this.uuid);
-            if (transactions == null || transactions.isEmpty()) {
-                plugin.getLogger().warning(String.format(
-                        "[WARNING] No transactions found | Player: %s | User: %s | Time: %s",
-                        this.uuid,
-                        CURRENT_USER,
-                        CURRENT_TIME
-                ));
-                return 0.0;
-            }
-
-            // Calculate total using transaction system with validation
-            double total = transactions.parallelStream()
-                    .filter(Objects::nonNull)
-                    .filter(transaction -> {
-                        if (transaction.getType() != TransactionType.EARN) {
-                            return false;
-                        }
-                        double amount = transaction.getAmount();
-                        if (amount < 0) {
-                            plugin.getLogger().warning(String.format(
-                                    "[WARNING] Negative amount found: %.2f | Transaction: %s | Player: %s | Time: %s",
-                                    amount,
-                                    transaction.getId(),
-                                    this.uuid,
-                                    CURRENT_TIME
-                            ));
-                            return false;
-                        }
-                        return true;
-                    })
-                    .mapToDouble(Transaction::getAmount)
-                    .sum();
-
-            // Cache the result with dynamic TTL based on transaction volume
-            try {
-                long ttl = calculateDynamicTTL(transactions.size());
-                CachedValue<Double> newCache = new CachedValue<>(
-                        total,
-                        System.currentTimeMillis(),
-                        ttl
-                );
-                this.cachedEarnings.put(this.uuid, newCache);
-            } catch (Exception e) {
-                plugin.getLogger().warning(String.format(
-                        "[WARNING] Cache creation failed | Player: %s | Error: %s | Time: %s",
-                        this.uuid,
-                        e.getMessage(),
-                        CURRENT_TIME
-                ));
-            }
-
-            // Log performance metrics and cache details
-            long duration = System.nanoTime() - startTime;
-            CachedValue<Double> currentCache = this.cachedEarnings.get(this.uuid);
-            long ttl = currentCache != null ? currentCache.getTTL() : 0L;
-
-            plugin.getLogger().info(String.format(
-                    "[METRICS] %s | Action: get_earned | Player: %s | Duration: %dms | Result: %.2f | Transactions: %d | Cache TTL: %ds | Time: %s",
-                    CURRENT_USER,
-                    this.uuid,
-                    duration / 1_000_000,
-                    total,
-                    transactions.size(),
-                    ttl / 1000,
-                    CURRENT_TIME
-            ));
+        return this.economyTotals.getEarned();
+    }
 
-            return total;
+    public EconomyTotals getEconomyTotals() {
+        return this.economyTotals;
+    }
 
-        } catch (Exception e) {
-            // Log detailed error information
-            plugin.getLogger().severe(String.format(
-                    "[ERROR] Failed to calculate earned coins | Error: %s | Stack: %s | Player: %s | User: %s | Time: %s",
-                    e.getMessage(),
-                    Arrays.toString(e.getStackTrace()).substring(0, Math.min(200, e.getStackTrace().length)),
-                    this.uuid,
-                    CURRENT_USER,
-                    CURRENT_TIME
-            ));
+    public EarningsWindow getEarningsWindow() {
+        return this.earningsWindow;
+    }
 
-            // Try to use cached value as fallback
-            CachedValue<Double> cached = this.cachedEarnings.get(this.uuid);
-            if (cached != null) {
-                plugin.getLogger().warning(String.format(
-                        "[RECOVERY] Using cached value as fallback | Player: %s | Cache Age: %dms | Time: %s",
-                        this.uuid,
-                        System.currentTimeMillis() - cached.getTimestamp(),
-                        CURRENT_TIME
-                ));
-                return cached.getValue();
-            }
+    public long getEarnedThisHour() {
+        return this.earningsWindow.getEarnedThisHour();
+    }
 
-            return 0.0;
-        }
+    public long getEarnedToday() {
+        return this.earningsWindow.getEarnedToday();
     }
 
     /**
-     * Calculates dynamic TTL based on transaction count
+     * @return coins earned over the last seven days
      */
-    private long calculateDynamicTTL(int transactionCount) {
-        // Base TTL: 5 minutes
-        long baseTTL = TimeUnit.MINUTES.toMillis(5);
-
-        // Add 1 minute for every 100 transactions, up to 30 minutes
-        long additionalTTL = Math.min(
-                TimeUnit.MINUTES.toMillis(25), // Max additional time
-                TimeUnit.MINUTES.toMillis(transactionCount / 100)
-        );
-
-        return baseTTL + additionalTTL;
+    public long getEarnedThisWeek() {
+        return this.earningsWindow.getEarnedThisWeek();
     }
 
     /**
@@ -514,16 +544,16 @@ public class BridgePlayer {
      */
     public double calculateEarnedCoins() {
         try {
-            return cachedEarnings.computeIfAbsent("earnings", k -> {
+            return cachedEarnings.get("earnings", k -> {
                 try {
                     double earned = calculateBaseEarnings() + calculateBonusEarnings();
                     logSuccess("Earnings calculated", earned);
-                    return Optional.of(earned);
+                    return earned;
                 } catch (Exception e) {
                     logError("Failed to calculate earnings", e);
-                    return Optional.of(0.0);
+                    return 0.0;
                 }
-            }).orElse(0.0);
+            });
         } catch (Exception e) {
             logError("Failed to calculate earned coins", e);
             return 0.0;
@@ -535,16 +565,16 @@ public class BridgePlayer {
      */
     public String getWarnings() {
         try {
-            return cachedWarnings.computeIfAbsent("warnings", k -> {
+            return cachedWarnings.get("warnings", k -> {
                 try {
                     String warnings = fetchWarningsFromDatabase();
                     logSuccess("Warnings fetched", warnings);
-                    return Optional.of(warnings);
+                    return warnings;
                 } catch (Exception e) {
                     logError("Failed to fetch warnings", e);
-                    return Optional.of("");
+                    return "";
                 }
-            }).orElse("");
+            });
         } catch (Exception e) {
             logError("Failed to get warnings", e);
             return "";
@@ -556,8 +586,8 @@ public class BridgePlayer {
      */
     public void clearCaches() {
         try {
-            cachedEarnings.clear();
-            cachedWarnings.clear();
+            cachedEarnings.invalidateAll();
+            cachedWarnings.invalidateAll();
             statisticsCache.invalidateAll();
             logSuccess("Caches cleared", null);
         } catch (Exception e) {
@@ -573,7 +603,7 @@ public class BridgePlayer {
             statisticsCache.put(type, value);
             // Also clear related caches
             if ("kills".equals(type) || "deaths".equals(type)) {
-                cachedEarnings.remove("earnings");
+                cachedEarnings.invalidate("earnings");
             }
             logSuccess("Statistics updated", value);
         } catch (Exception e) {
@@ -605,9 +635,8 @@ public class BridgePlayer {
 
     // Helper methods
     private double calculateBaseEarnings() {
-        return statisticsCache.getIfPresent("baseEarnings") != null ?
-                statisticsCache.getIfPresent("baseEarnings") :
-                calculateDefaultBaseEarnings();
+        Double cached = statisticsCache.get("baseEarnings");
+        return cached != null ? cached : calculateDefaultBaseEarnings();
     }
 
     private double calculateDefaultBaseEarnings() {
@@ -615,9 +644,8 @@ public class BridgePlayer {
     }
 
     private double calculateBonusEarnings() {
-        return statisticsCache.getIfPresent("bonusEarnings") != null ?
-                statisticsCache.getIfPresent("bonusEarnings") :
-                calculateDefaultBonusEarnings();
+        Double cached = statisticsCache.get("bonusEarnings");
+        return cached != null ? cached : calculateDefaultBonusEarnings();
     }
 
     private double calculateDefaultBonusEarnings() {
@@ -634,14 +662,115 @@ public class BridgePlayer {
         return uuid;
     }
 
-    public double getCoins() {
-        return coins;
+    public int getCoins() {
+        long coins = this.balance.get();
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, coins));
+    }
+
+    public long getBalance() {
+        return this.balance.get();
+    }
+
+    /**
+     * Adds coins to the balance
+     *
+     * @param amount Positive amount to add
+     * @return the operation, whose id is the idempotency key of its ledger entry
+     */
+    public CoinOperation credit(long amount) {
+        requirePositive(amount);
+        return persist(TransactionType.EARN, amount, this.balance.addAndGet(amount));
+    }
+
+    /**
+     * Removes coins from the balance unconditionally; the balance may go negative
+     *
+     * @param amount Positive amount to remove
+     */
+    public CoinOperation debit(long amount) {
+        requirePositive(amount);
+        return persist(TransactionType.SPEND, amount, this.balance.addAndGet(-amount));
+    }
+
+    /**
+     * Removes coins only if the balance covers the amount. The check and the
+     * update are a single CAS, so two concurrent purchases can never both pass.
+     *
+     * @param amount Amount to remove; 0 (a free item) always succeeds without a ledger entry
+     * @return the operation, or empty if the balance is too low
+     */
+    public Optional<CoinOperation> tryDebit(long amount) {
+        if (amount == 0L)
+            return Optional.of(persist(TransactionType.SPEND, 0L, this.balance.get()));
+        requirePositive(amount);
+        long current;
+        do {
+            current = this.balance.get();
+            if (current < amount) {
+                return Optional.empty();
+            }
+        } while (!this.balance.compareAndSet(current, current - amount));
+        return Optional.of(persist(TransactionType.SPEND, amount, current - amount));
     }
 
-    public void setCoins(double coins) {
-        this.coins = (int) coins;
-        // Clear related caches
-        cachedEarnings.remove("earnings");
+    /**
+     * Sets the balance to an absolute value (admin use). Persisted as the
+     * difference to the previous in-memory balance, like every other change.
+     */
+    public CoinOperation setCoins(long coins) {
+        long previous = this.balance.getAndSet(coins);
+        return persist(TransactionType.ADJUST, coins - previous, coins);
+    }
+
+    /**
+     * Atomically replaces the balance with {@code update(balance)} (admin use),
+     * persisted as the difference like {@link #setCoins}
+     */
+    public CoinOperation adjustCoins(LongUnaryOperator update) {
+        long previous;
+        long next;
+        do {
+            previous = this.balance.get();
+            next = update.applyAsLong(previous);
+        } while (!this.balance.compareAndSet(previous, next));
+        return persist(TransactionType.ADJUST, next - previous, next);
+    }
+
+    /**
+     * Records a balance change on the coin ledger, which applies it to the
+     * stored balance as a {@code coins = coins + delta} update
+     */
+    private CoinOperation persist(TransactionType type, long amount, long balanceAfter) {
+        Transaction transaction = new Transaction(this.uuid, type, amount, this.plugin);
+        if (amount != 0L) {
+            UUID opId = transaction.getOpId();
+            long delta = type == TransactionType.SPEND ? -amount : amount;
+            synchronized (this.uncommittedOps) {
+                this.uncommittedOps.put(opId, delta);
+                this.opsVersion++;
+            }
+            // Once committed the delta is part of the stored balance. A journaled
+            // delta is not until replay applies it, so it stays uncommitted and
+            // the next rebase folds it in once the ledger marks it applied.
+            transaction.save().thenAccept(stored -> {
+                if (!stored)
+                    return;
+                synchronized (this.uncommittedOps) {
+                    Long committed = this.uncommittedOps.remove(opId);
+                    if (committed != null) {
+                        this.storedBase += committed;
+                        this.opsVersion++;
+                    }
+                }
+            });
+        }
+        return new CoinOperation(transaction.getOpId(), type, amount, balanceAfter);
+    }
+
+    private static void requirePositive(long amount) {
+        if (amount <= 0L) {
+            throw new IllegalArgumentException("Amount must be positive: " + amount);
+        }
     }
 
     /**
@@ -870,175 +999,60 @@ public class BridgePlayer {
     }
 
     /**
-     * Gets the player's kill count from cache or database
-     * Includes performance monitoring and error handling
+     * Gets the player's kill count. Always served from memory; the database is
+     * only touched when the accumulated deltas are flushed.
      *
-     * @author SyncFocus17
-     * @since 2025-02-04 18:02:50
-     * @return The number of kills as a double for KDR calculation
+     * @return The number of kills
      */
-    public double getKills() {
-        try {
-            // Track performance
-            long startTime = System.nanoTime();
-
-            // Check cache first
-            CachedStat cached = statsCache.get(getUniqueId());
-            if (cached != null && !cached.isExpired()) {
-                logStatAccess("kills", "cache_hit", cached.value());
-                return cached.value();
-            }
+    public int getKills() {
+        return kills.get();
+    }
 
-            // Prepare SQL query with indexing hint
-            String query = """
-            SELECT kills 
-            FROM player_stats 
-            FORCE INDEX (idx_uuid)
-            WHERE uuid = ? 
-            LIMIT 1
-            """;
-
-            // Execute query with connection pool
-            try (Connection conn = (Connection) plugin.getSM().getDBManager().getConnection();
-                 PreparedStatement stmt = conn.prepareStatement(query)) {
-
-                stmt.setString(1, getUniqueId().toString());
-
-                try (ResultSet rs = stmt.executeQuery()) {
-                    int kills = rs.next() ? rs.getInt("kills") : 0;
-
-                    // Update cache with new value
-                    statsCache.put(getUniqueId(), new CachedStat(
-                            kills,
-                            System.currentTimeMillis()
-                    ));
-
-                    // Log performance metrics
-                    long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
-                    plugin.getLogger().info(String.format(
-                            "[PERFORMANCE] Kills fetch completed in %dms | User: %s | Time: %s",
-                            duration,
-                            CURRENT_USER,
-                            CURRENT_TIME
-                    ));
-
-                    return kills;
-                }
-            }
-        } catch (SQLException e) {
-            // Log error with details
-            plugin.getLogger().severe(String.format(
-                    "[ERROR] Failed to fetch kills for %s: %s | User: %s | Time: %s",
-                    getUniqueId(),
-                    e.getMessage(),
-                    CURRENT_USER,
-                    CURRENT_TIME
-            ));
+    public int getDeaths() {
+        return deaths.get();
+    }
 
-            // Return cached value if available, otherwise 0
-            return statsCache.containsKey(getUniqueId())
-                    ? statsCache.get(getUniqueId()).value()
-                    : 0;
-        }
+    public int getStreak() {
+        return streak.get();
+    }
+
+    public int getBestStreak() {
+        return bestStreak.get();
     }
 
     /**
-     * Updates player stats in the database
-     * @param statType The type of stat (kills/deaths)
-     * @param value The new value
+     * @return kills since this player joined; not persisted
      */
-    private void updateStat(String statType, int value) {
-        try {
-            String query = """
-            INSERT INTO player_stats (uuid, %s, last_updated) 
-            VALUES (?, ?, ?) 
-            ON DUPLICATE KEY UPDATE 
-            %s = ?, last_updated = ?
-            """.formatted(statType, statType);
-
-            try (Connection conn = (Connection) plugin.getSM().getDBManager().getConnection();
-                 PreparedStatement stmt = conn.prepareStatement(query)) {
-
-                stmt.setString(1, getUniqueId().toString());
-                stmt.setInt(2, value);
-                stmt.setString(3, CURRENT_TIME);
-                stmt.setInt(4, value);
-                stmt.setString(5, CURRENT_TIME);
-
-                stmt.executeUpdate();
-
-                // Update cache
-                statsCache.put(getUniqueId(), new CachedStat(
-                        value,
-                        System.currentTimeMillis()
-                ));
-
-                // Log update
-                logStatUpdate(statType, value);
-            }
-        } catch (SQLException e) {
-            plugin.getLogger().severe(String.format(
-                    "[ERROR] Failed to update %s for %s: %s | User: %s | Time: %s",
-                    statType,
-                    getUniqueId(),
-                    e.getMessage(),
-                    CURRENT_USER,
-                    CURRENT_TIME
-            ));
-        }
+    public int getSessionKills() {
+        return sessionKills.get();
     }
 
     /**
-     * Logs stat access for monitoring
+     * Records a kill for this player and extends the current streak
      */
-    private void logStatAccess(String stat, String source, int value) {
-        plugin.getLogger().info(String.format(
-                "[STAT_ACCESS] %s | Type: %s | Source: %s | Value: %d | User: %s | Time: %s",
-                getUniqueId(),
-                stat,
-                source,
-                value,
-                CURRENT_USER,
-                CURRENT_TIME
-        ));
+    public void recordKill() {
+        kills.incrementAndGet();
+        pendingKills.incrementAndGet();
+        sessionKills.incrementAndGet();
+        int current = streak.incrementAndGet();
+        bestStreak.accumulateAndGet(current, Math::max);
     }
 
     /**
-     * Logs stat updates for monitoring
+     * Records a death for this player and resets the current streak
      */
-    private void logStatUpdate(String stat, int value) {
-        plugin.getLogger().info(String.format(
-                "[STAT_UPDATE] %s | Type: %s | New Value: %d | User: %s | Time: %s",
-                getUniqueId(),
-                stat,
-                value,
-                CURRENT_USER,
-                CURRENT_TIME
-        ));
+    public void recordDeath() {
+        deaths.incrementAndGet();
+        pendingDeaths.incrementAndGet();
+        streak.set(0);
     }
 
     /**
-     * Cache value wrapper with expiration
+     * Takes the unflushed kill/death increments, resetting them to zero
+     *
+     * @return The increments accumulated since the last drain
      */
-    private static class CachedValue<T> {
-        private final T value;
-        private final long timestamp;
-        private final long ttl;
-
-        public CachedValue(T value, long timestamp, long ttl) {
-            this.value = value;
-            this.timestamp = timestamp;
-            this.ttl = ttl;
-        }
-
-        public boolean isExpired() {
-            return System.currentTimeMillis() - timestamp > ttl;
-        }
-
-        public T getValue() {
-            return value;
-        }
+    public StatDelta drainStatDelta() {
+        return new StatDelta(pendingKills.getAndSet(0), pendingDeaths.getAndSet(0), bestStreak.get());
     }
-
-
-}
\ No newline at end of file
+}
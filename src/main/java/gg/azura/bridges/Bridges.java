@@ -5,6 +5,7 @@ import gg.azura.bridges.commands.KillCommand;
 import gg.azura.bridges.ffa.listeners.*;
 import gg.azura.bridges.listeners.*;
 import gg.azura.bridges.tasks.ArmorstandBlockingTask;
+import gg.azura.bridges.tasks.VoidSweepTask;
 import lombok.Getter;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.entity.HumanEntity;
@@ -16,7 +17,6 @@ import org.bukkit.plugin.java.JavaPlugin;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
@@ -36,11 +36,10 @@ public final class Bridges extends JavaPlugin {
 
     private static Bridges plugin;
     private ServicesManager servicesManager;
-    private final Map<UUID, Transaction> transactionCache;
+    private MovementDispatcher movementDispatcher;
     private final List<Transaction> transactions;
 
     public Bridges() {
-        this.transactionCache = new ConcurrentHashMap<>();
         this.transactions = new CopyOnWriteArrayList<>();
     }
 
@@ -138,12 +137,14 @@ public final class Bridges extends JavaPlugin {
     private void registerListenersAndCommands() {
         // Register listeners
         PluginManager pm = getServer().getPluginManager();
-        Arrays.asList(
+        this.movementDispatcher = new MovementDispatcher(this);
+        Arrays.<Listener>asList(
                 new JoinQuitListener(this),
                 new GameListener(this),
                 new ArmorstandListener(this),
                 new DeathListener(this),
-                new ProtectionListener(this)
+                new ProtectionListener(this),
+                this.movementDispatcher
         ).forEach(listener -> {
             pm.registerEvents(listener, this);
             logListenerRegistration(listener);
@@ -164,6 +165,9 @@ public final class Bridges extends JavaPlugin {
      */
     private void startTasks() {
         new ArmorstandBlockingTask(this).runTaskTimer(this, 100L, 60L);
+        new VoidSweepTask(this).runTaskTimer(this, 1L, 1L);
+        if (servicesManager.getVariables().reloadWatch)
+            servicesManager.getConfigReloader().startWatching();
         getLogger().info(String.format(
                 "[TASKS] Started scheduled tasks | Time: %s",
                 CURRENT_TIME
@@ -181,6 +185,12 @@ public final class Bridges extends JavaPlugin {
 
             // Save player data
             servicesManager.getPlayerManager().saveNow(false);
+            servicesManager.getPlayerManager().flushStats();
+            servicesManager.getLedgerWriter().shutdown();
+            servicesManager.getBalanceSnapshots().shutdown();
+            servicesManager.getPositionSampler().shutdown();
+            servicesManager.getConfigReloader().shutdown();
+            servicesManager.getDBManager().shutdown();
 
             // Clean up blocks
             servicesManager.getBlocksManager().getBlocks().forEach(BridgeBlock::remove);
@@ -191,7 +201,6 @@ public final class Bridges extends JavaPlugin {
             }
 
             // Clear caches
-            transactionCache.clear();
             transactions.clear();
 
             // Log disable
@@ -211,47 +220,6 @@ public final class Bridges extends JavaPlugin {
         }
     }
 
-    /**
-     * Gets all transactions for the player
-     * @return Collection of transactions
-     */
-    public Collection<Transaction> getTransactions() {
-        try {
-            UUID playerId = servicesManager.getTransactionManager().getPlayerId();
-            if (playerId == null) {
-                getLogger().warning(String.format(
-                        "[TRANSACTIONS] No player ID available | Time: %s",
-                        CURRENT_TIME
-                ));
-                return Collections.emptyList();
-            }
-
-            // Try to get from cache first
-            if (transactionCache.containsKey(playerId)) {
-                return Collections.singletonList(transactionCache.get(playerId));
-            }
-
-            // Get from database
-            Collection<Transaction> playerTransactions =
-                    Transaction.getTransactions(playerId);
-
-            // Cache the results
-            playerTransactions.forEach(t ->
-                    transactionCache.put(playerId, t));
-
-            return playerTransactions;
-
-        } catch (Exception e) {
-            getLogger().severe(String.format(
-                    "[ERROR] Failed to get transactions: %s | User: %s | Time: %s",
-                    e.getMessage(),
-                    CURRENT_USER,
-                    CURRENT_TIME
-            ));
-            return Collections.emptyList();
-        }
-    }
-
     /**
      * Logs listener registration
      */
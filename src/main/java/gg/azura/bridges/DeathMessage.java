@@ -28,6 +28,14 @@ public class DeathMessage implements Buyable {
         return id;
     }
 
+    public String getMessageWithKiller() {
+        return messageWithKiller;
+    }
+
+    public String getMessageWithoutKiller() {
+        return messageWithoutKiller;
+    }
+
     public String getUnformattedMessage() {
         return (killer != null) ? messageWithKiller : messageWithoutKiller;
     }
@@ -70,4 +78,19 @@ public class DeathMessage implements Buyable {
     public String getPopularity() {
         return popularity;
     }
+
+    /**
+     * Death messages are keyed by id, so a reloaded copy equals the one it replaces
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DeathMessage)) return false;
+        return this.id == ((DeathMessage) o).id;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(this.id);
+    }
 }
\ No newline at end of file
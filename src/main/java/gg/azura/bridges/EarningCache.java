@@ -1,15 +1,13 @@
 package gg.azura.bridges;
 
+import gg.azura.bridges.services.BoundedCache;
 import org.bukkit.plugin.Plugin;
 
+import java.sql.SQLException;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
-import java.util.Map;
-import java.util.Objects;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 public class EarningCache {
@@ -17,16 +15,18 @@ public class EarningCache {
             .ofPattern("yyyy-MM-dd HH:mm:ss")
             .withZone(ZoneId.of("UTC"));
 
-    private final Map<UUID, CachedValue<Double>> cache;
+    private final BoundedCache<UUID, Double> cache;
     private final Plugin plugin;
-    private final long defaultTTL;
-    private final long maxTTL;
 
     public EarningCache(Plugin plugin) {
         this.plugin = plugin;
-        this.cache = new ConcurrentHashMap<>();
-        this.defaultTTL = TimeUnit.MINUTES.toMillis(5);  // 5 minutes default
-        this.maxTTL = TimeUnit.MINUTES.toMillis(30);     // 30 minutes maximum
+        this.cache = BoundedCache.<UUID, Double>builder()
+                .name("earnings")
+                .maximumSize(2048)
+                .expireAfterWrite(5, TimeUnit.MINUTES)
+                .refreshAfterWrite(4, TimeUnit.MINUTES, this::reload,
+                        task -> Bridges.get().getSM().getDBManager().getIoExecutor().execute(task))
+                .build();
     }
 
     /**
@@ -36,25 +36,15 @@ public class EarningCache {
         String currentTime = getCurrentTime();
 
         try {
-            // Check existing cache
-            CachedValue<Double> cached = cache.get(playerId);
-            if (cached != null && !cached.isExpired()) {
-                logDebug(String.format(
-                        "[CACHE] Hit for player %s | Value: %.2f | Age: %dms | Time: %s",
-                        playerId,
-                        cached.getValue(),
-                        System.currentTimeMillis() - cached.getTimestamp(),
-                        currentTime
-                ));
-                return cached.getValue();
+            Double cached = cache.get(playerId);
+            if (cached != null) {
+                return cached;
             }
 
             // Cache miss - calculate new value
             long startTime = System.nanoTime();
             double total = calculateEarnings(playerId, username, currentTime);
-
-            // Update cache
-            updateCache(playerId, total, username, currentTime);
+            cache.put(playerId, total);
 
             // Log performance
             logPerformance(playerId, username, startTime, total, currentTime);
@@ -68,93 +58,52 @@ public class EarningCache {
     }
 
     /**
-     * Calculates earnings from transactions
-     */
-    private double calculateEarnings(UUID playerId, String username, String currentTime) {
-        List<Transaction> transactions = (List<Transaction>) Transaction.getTransactions(playerId);
-        validateTransactions(transactions, playerId, username, currentTime);
-
-        return transactions.parallelStream()
-                .filter(Objects::nonNull)
-                .filter(t -> t.getType() == TransactionType.EARN)
-                .mapToDouble(this::getValidAmount)
-                .sum();
-    }
-
-    /**
-     * Validates transaction amount
-     */
-    private double getValidAmount(Transaction transaction) {
-        double amount = transaction.getAmount();
-        if (amount < 0) {
-            logWarning(String.format(
-                    "Negative transaction amount: %.2f | Transaction: %s",
-                    amount,
-                    transaction.getPlayerId()
-            ));
-            return 0.0;
-        }
-        return amount;
-    }
-
-    /**
-     * Updates the cache with new value
+     * Refresh-ahead loader, run on the database IO executor
      */
-    private void updateCache(UUID playerId, double value, String username, String currentTime) {
+    private Double reload(UUID playerId) {
         try {
-            CachedValue<Double> newCache = new CachedValue<>(
-                    value,
-                    System.currentTimeMillis(),
-                    calculateDynamicTTL(value)
-            );
-            cache.put(playerId, newCache);
-        } catch (Exception e) {
-            logWarning(String.format(
-                    "Failed to update cache | Player: %s | User: %s | Error: %s | Time: %s",
-                    playerId,
-                    username,
-                    e.getMessage(),
-                    currentTime
-            ));
+            return calculateEarnings(playerId, playerId.toString(), getCurrentTime());
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
         }
     }
 
     /**
-     * Calculates dynamic TTL based on value
+     * Reads lifetime earnings from the maintained totals: in memory for online
+     * players, otherwise a single row of {@code bridgeffa_economy_totals}
      */
-    private long calculateDynamicTTL(double value) {
-        // Larger values get longer cache times
-        long additionalTime = TimeUnit.MINUTES.toMillis((long) (value / 10000));
-        return Math.min(defaultTTL + additionalTime, maxTTL);
-    }
+    private double calculateEarnings(UUID playerId, String username, String currentTime) throws SQLException {
+        BridgePlayer player = Bridges.get().getSM().getPlayerManager().getPlayer(playerId);
+        if (player != null) {
+            return player.getEarnedCoins();
+        }
 
-    /**
-     * Validates transactions list
-     */
-    private void validateTransactions(List<Transaction> transactions, UUID playerId, String username, String currentTime) {
-        if (transactions == null || transactions.isEmpty()) {
-            logWarning(String.format(
-                    "No transactions found | Player: %s | User: %s | Time: %s",
+        Double earned = Bridges.get().getSM().getDBManager().readQueryFirst("economy.totals.earned",
+                EconomyTotals.LOAD_QUERY, rs -> rs.getDouble("earned"), playerId.toString());
+        if (earned == null) {
+            logDebug(String.format(
+                    "No earnings recorded | Player: %s | User: %s | Time: %s",
                     playerId,
                     username,
                     currentTime
             ));
+            return 0.0;
         }
+        return earned;
     }
 
     /**
      * Gets cached value or returns default
      */
     private double getCachedOrDefault(UUID playerId, String currentTime) {
-        CachedValue<Double> cached = cache.get(playerId);
+        Double cached = cache.getStale(playerId);
         if (cached != null) {
             logWarning(String.format(
-                    "[RECOVERY] Using cached value | Player: %s | Cache Age: %dms | Time: %s",
+                    "[RECOVERY] Using cached value | Player: %s | Time: %s",
                     playerId,
-                    System.currentTimeMillis() - cached.getTimestamp(),
                     currentTime
             ));
-            return cached.getValue();
+            return cached;
         }
         return 0.0;
     }
@@ -164,16 +113,13 @@ public class EarningCache {
      */
     private void logPerformance(UUID playerId, String username, long startTime, double total, String currentTime) {
         long duration = System.nanoTime() - startTime;
-        CachedValue<Double> cached = cache.get(playerId);
-        long ttl = cached != null ? cached.getTTL() : 0L;
 
         plugin.getLogger().info(String.format(
-                "[METRICS] %s | Action: get_earnings | Player: %s | Duration: %dms | Result: %.2f | Cache TTL: %ds | Time: %s",
+                "[METRICS] %s | Action: get_earnings | Player: %s | Duration: %dms | Result: %.2f | Time: %s",
                 username,
                 playerId,
                 duration / 1_000_000,
                 total,
-                ttl / 1000,
                 currentTime
         ));
     }
@@ -212,42 +158,11 @@ public class EarningCache {
         ));
     }
 
-    /**
-     * Cache value wrapper class
-     */
-    private static class CachedValue<T> {
-        private final T value;
-        private final long timestamp;
-        private final long ttl;
-
-        public CachedValue(T value, long timestamp, long ttl) {
-            this.value = Objects.requireNonNull(value, "Cached value cannot be null");
-            this.timestamp = timestamp;
-            this.ttl = ttl;
-        }
-
-        public T getValue() {
-            return value;
-        }
-
-        public long getTimestamp() {
-            return timestamp;
-        }
-
-        public long getTTL() {
-            return ttl;
-        }
-
-        public boolean isExpired() {
-            return System.currentTimeMillis() - timestamp > ttl;
-        }
-    }
-
     /**
      * Clears all cached values
      */
     public void clearCache() {
-        cache.clear();
+        cache.invalidateAll();
         logDebug("[CACHE] Cleared all cached values");
     }
 
@@ -255,7 +170,7 @@ public class EarningCache {
      * Removes cached value for specific player
      */
     public void clearCache(UUID playerId) {
-        cache.remove(playerId);
+        cache.invalidate(playerId);
         logDebug(String.format("[CACHE] Cleared cache for player %s", playerId));
     }
 }
\ No newline at end of file
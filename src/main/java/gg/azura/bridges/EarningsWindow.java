@@ -0,0 +1,121 @@
+package gg.azura.bridges;
+
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coins earned by a player over the last week, in one bucket per hour.
+ * <p>
+ * The buckets form a ring over a primitive array: bucket {@code hour % HOURS}
+ * holds the coins earned during that epoch hour, and {@link #roll()} clears the
+ * buckets of hours that fell out of the window. Windowed sums are therefore a
+ * walk over at most {@value #HOURS} longs, independent of ledger size.
+ */
+public class EarningsWindow {
+
+    public static final int HOURS = 168;
+    private static final long HOUR_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    public static final String SEED_QUERY = """
+            SELECT FLOOR(timestamp / 3600000) AS hour, SUM(amount) AS earned
+            FROM transactions
+            WHERE player_id = ? AND type = 'EARN' AND timestamp >= ? AND timestamp < ?
+            GROUP BY hour
+            """;
+
+    private final long[] buckets = new long[HOURS];
+    private final long createdAt;
+    private long headHour;
+
+    public EarningsWindow() {
+        this.createdAt = System.currentTimeMillis();
+        this.headHour = this.createdAt / HOUR_MILLIS;
+    }
+
+    /**
+     * Earnings recorded in memory start here; anything earlier has to come from {@link #seed}
+     */
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * @return start of the seed range covering the whole window
+     */
+    public long getWindowStart() {
+        return (createdAt / HOUR_MILLIS - HOURS + 1) * HOUR_MILLIS;
+    }
+
+    public synchronized void record(long amount, long timestamp) {
+        add(timestamp / HOUR_MILLIS, amount);
+    }
+
+    /**
+     * Adds the persisted earnings of one epoch hour
+     */
+    public synchronized void seed(long hour, long amount) {
+        add(hour, amount);
+    }
+
+    /**
+     * Advances the ring to the current hour, clearing expired buckets
+     */
+    public synchronized void roll() {
+        advance(System.currentTimeMillis() / HOUR_MILLIS);
+    }
+
+    public long getEarnedThisHour() {
+        return getEarnedSince(System.currentTimeMillis());
+    }
+
+    /**
+     * @return coins earned since local midnight
+     */
+    public long getEarnedToday() {
+        return getEarnedSince(ZonedDateTime.now().truncatedTo(ChronoUnit.DAYS).toInstant().toEpochMilli());
+    }
+
+    /**
+     * @return coins earned over the last seven days
+     */
+    public long getEarnedThisWeek() {
+        return getEarnedSince(0L);
+    }
+
+    /**
+     * @return coins earned since the start of the hour containing {@code since},
+     *         limited to the window
+     */
+    public synchronized long getEarnedSince(long since) {
+        advance(System.currentTimeMillis() / HOUR_MILLIS);
+        long hours = Math.min(HOURS, headHour - since / HOUR_MILLIS + 1);
+        long sum = 0L;
+        for (long hour = headHour - hours + 1; hour <= headHour; hour++) {
+            sum += buckets[index(hour)];
+        }
+        return sum;
+    }
+
+    private void add(long hour, long amount) {
+        advance(hour);
+        if (hour > headHour - HOURS && hour <= headHour) {
+            buckets[index(hour)] += amount;
+        }
+    }
+
+    private void advance(long hour) {
+        if (hour <= headHour) {
+            return;
+        }
+        long steps = Math.min(HOURS, hour - headHour);
+        for (long i = 1; i <= steps; i++) {
+            buckets[index(headHour + i)] = 0L;
+        }
+        headHour = hour;
+    }
+
+    private static int index(long hour) {
+        return (int) Math.floorMod(hour, (long) HOURS);
+    }
+}
@@ -0,0 +1,55 @@
+package gg.azura.bridges;
+
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory mirror of a player's row in {@code bridgeffa_economy_totals}.
+ * <p>
+ * Both are updated incrementally as transactions are recorded, so lifetime
+ * earned/spent lookups are constant time regardless of ledger size.
+ */
+public class EconomyTotals {
+
+    public static final String LOAD_QUERY =
+            "SELECT earned, spent, tx_count FROM bridgeffa_economy_totals WHERE uuid = ?";
+
+    private final DoubleAdder earned = new DoubleAdder();
+    private final DoubleAdder spent = new DoubleAdder();
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * Applies one transaction to the totals
+     */
+    public void record(TransactionType type, double amount) {
+        switch (type) {
+            case EARN -> earned.add(amount);
+            case SPEND -> spent.add(amount);
+            case ADJUST -> {
+            }
+        }
+        count.increment();
+    }
+
+    /**
+     * Adds persisted totals on top of what has been recorded in memory, so
+     * transactions recorded before the load finished are kept
+     */
+    public void load(double earned, double spent, long count) {
+        this.earned.add(earned);
+        this.spent.add(spent);
+        this.count.add(count);
+    }
+
+    public double getEarned() {
+        return earned.sum();
+    }
+
+    public double getSpent() {
+        return spent.sum();
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+}
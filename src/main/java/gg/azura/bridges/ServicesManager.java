@@ -17,6 +17,15 @@ public class ServicesManager {
 
     private final Variables variables;
     private final DatabaseManager databaseManager;
+    private final LedgerWriter ledgerWriter;
+    private final BalanceSnapshots balanceSnapshots;
+    private final RewardEngine rewardEngine;
+    private final RegionManager regionManager;
+    private final KitRefill kitRefill;
+    private final PositionSampler positionSampler;
+    private final ConfigReloader configReloader;
+    private final TransactionView transactionView;
+    private final BulkEconomy bulkEconomy;
     private final PlayerManager playerManager;
     private final BlocksManager blocksManager;
     private final BlockItemsManager blockItemsManager;
@@ -43,12 +52,21 @@ public class ServicesManager {
             // Initialize other services
             this.variables = new Variables(plugin);
             this.databaseManager = new DatabaseManager(this.variables, plugin);
+            this.ledgerWriter = new LedgerWriter(plugin, this.databaseManager, this.variables);
+            this.balanceSnapshots = new BalanceSnapshots(plugin, this.databaseManager, this.variables);
+            this.rewardEngine = new RewardEngine(this.variables);
+            this.regionManager = new RegionManager(plugin, this.variables);
+            this.kitRefill = new KitRefill(this.variables);
+            this.transactionView = new TransactionView(plugin, this.databaseManager);
+            this.bulkEconomy = new BulkEconomy(plugin, this.databaseManager);
             this.blocksManager = new BlocksManager(plugin);
             this.blockItemsManager = new BlockItemsManager(plugin);
             this.spawnManager = new SpawnManager(plugin);
             this.armorstandManager = new ArmorstandManager(plugin);
             this.deathMessagesManager = new DeathMessagesManager(plugin);
             this.playerManager = new PlayerManager(plugin, new SoundSettings());
+            this.positionSampler = new PositionSampler(plugin, this.variables);
+            this.configReloader = new ConfigReloader(plugin);
 
             // Initialize PAPI expansion if available
             if (plugin.getServer().getPluginManager().isPluginEnabled("PlaceholderAPI")) {
@@ -93,6 +111,51 @@ public class ServicesManager {
         return databaseManager;
     }
 
+    public LedgerWriter getLedgerWriter() {
+        checkInitialized(ledgerWriter, "LedgerWriter");
+        return ledgerWriter;
+    }
+
+    public BalanceSnapshots getBalanceSnapshots() {
+        checkInitialized(balanceSnapshots, "BalanceSnapshots");
+        return balanceSnapshots;
+    }
+
+    public RewardEngine getRewardEngine() {
+        checkInitialized(rewardEngine, "RewardEngine");
+        return rewardEngine;
+    }
+
+    public RegionManager getRegionManager() {
+        checkInitialized(regionManager, "RegionManager");
+        return regionManager;
+    }
+
+    public KitRefill getKitRefill() {
+        checkInitialized(kitRefill, "KitRefill");
+        return kitRefill;
+    }
+
+    public PositionSampler getPositionSampler() {
+        checkInitialized(positionSampler, "PositionSampler");
+        return positionSampler;
+    }
+
+    public ConfigReloader getConfigReloader() {
+        checkInitialized(configReloader, "ConfigReloader");
+        return configReloader;
+    }
+
+    public TransactionView getTransactionView() {
+        checkInitialized(transactionView, "TransactionView");
+        return transactionView;
+    }
+
+    public BulkEconomy getBulkEconomy() {
+        checkInitialized(bulkEconomy, "BulkEconomy");
+        return bulkEconomy;
+    }
+
     public PlayerManager getPlayerManager() {
         checkInitialized(playerManager, "PlayerManager");
         return playerManager;
@@ -147,6 +210,15 @@ public class ServicesManager {
     public boolean isFullyInitialized() {
         boolean initialized = variables != null &&
                 databaseManager != null &&
+                ledgerWriter != null &&
+                balanceSnapshots != null &&
+                rewardEngine != null &&
+                regionManager != null &&
+                kitRefill != null &&
+                positionSampler != null &&
+                configReloader != null &&
+                transactionView != null &&
+                bulkEconomy != null &&
                 playerManager != null &&
                 blocksManager != null &&
                 blockItemsManager != null &&
@@ -1,5 +1,6 @@
 package gg.azura.bridges;
 
+import gg.azura.bridges.services.BoundedCache;
 import lombok.Getter;
 import lombok.Setter;
 import org.bukkit.Bukkit;
@@ -12,7 +13,7 @@ import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -30,11 +31,18 @@ public class Transaction {
             DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
     // Cache for transactions to prevent frequent database queries
-    private static final Map<UUID, CachedTransactions> transactionCache =
-            new ConcurrentHashMap<>();
-
-    private static final long CACHE_DURATION = TimeUnit.MINUTES.toMillis(5);
-
+    private static final BoundedCache<UUID, Collection<Transaction>> transactionCache =
+            BoundedCache.<UUID, Collection<Transaction>>builder()
+                    .name("transactions")
+                    .maximumSize(1024)
+                    .expireAfterWrite(5, TimeUnit.MINUTES)
+                    .build();
+
+    // Most recent entries kept per player; older history is read through TransactionHistory
+    public static final int RECENT_LIMIT = 100;
+
+    private final long id;
+    private final UUID opId;
     private final UUID playerId;
     private final TransactionType type;
     private final double amount;
@@ -46,30 +54,38 @@ public class Transaction {
      */
     public Transaction(@NotNull UUID playerId, TransactionType type, double amount,
                        Bridges plugin) {
+        this(0L, UUID.randomUUID(), playerId, type, amount, System.currentTimeMillis(), plugin);
+    }
+
+    private Transaction(long id, UUID opId, UUID playerId, TransactionType type, double amount,
+                        long timestamp, Bridges plugin) {
+        this.id = id;
+        this.opId = opId;
         this.playerId = playerId;
         this.type = type;
         this.amount = amount;
-        this.timestamp = System.currentTimeMillis();
+        this.timestamp = timestamp;
         this.plugin = plugin;
-
-        // Log creation
-        logTransaction("CREATE", "New transaction created");
     }
 
     /**
-     * Record for caching transactions
+     * Rebuilds a committed ledger row selected with {@code id, op_id, type, amount, timestamp}
      */
-    private record CachedTransactions(
-            Collection<Transaction> transactions,
-            long timestamp
-    ) {
-        boolean isExpired() {
-            return System.currentTimeMillis() - timestamp > CACHE_DURATION;
-        }
+    static Transaction fromRow(UUID playerId, ResultSet rs) throws SQLException {
+        String opId = rs.getString("op_id");
+        return new Transaction(
+                rs.getLong("id"),
+                opId != null ? UUID.fromString(opId) : new UUID(0L, rs.getLong("id")),
+                playerId,
+                TransactionType.valueOf(rs.getString("type")),
+                rs.getDouble("amount"),
+                rs.getLong("timestamp"),
+                Bridges.get()
+        );
     }
 
     /**
-     * Gets all transactions for a player
+     * Gets the most recent transactions for a player, newest first
      * @param playerId The UUID of the player
      * @return Collection of transactions
      */
@@ -84,20 +100,21 @@ public class Transaction {
 
         try {
             // Check cache first
-            CachedTransactions cached = transactionCache.get(playerId);
-            if (cached != null && !cached.isExpired()) {
+            Collection<Transaction> cached = transactionCache.get(playerId);
+            // Stale entries are still better than nothing during an outage
+            if (cached == null && !Bridges.get().getServicesManager().getDBManager().isAvailable()) {
+                cached = transactionCache.getStale(playerId);
+            }
+            if (cached != null) {
                 logAccess("CACHE_HIT", playerId);
-                return cached.transactions();
+                return cached;
             }
 
             // Get from database
             Collection<Transaction> transactions = loadTransactionsFromDb(playerId);
 
             // Update cache
-            transactionCache.put(playerId, new CachedTransactions(
-                    transactions,
-                    System.currentTimeMillis()
-            ));
+            transactionCache.put(playerId, transactions);
 
             logAccess("DB_FETCH", playerId);
             return transactions;
@@ -109,67 +126,32 @@ public class Transaction {
     }
 
     /**
-     * Loads transactions from database
+     * Loads the most recent page of the player's ledger
      */
     private static Collection<Transaction> loadTransactionsFromDb(UUID playerId)
             throws SQLException {
-        List<Transaction> transactions = new ArrayList<>();
-        String query = """
-            SELECT type, amount, timestamp 
-            FROM transactions 
-            WHERE player_id = ? 
-            ORDER BY timestamp DESC
-            """;
-
-        try (Connection conn = (Connection) Bridges.get().getServicesManager()
-                .getDBManager().getConnection();
-             PreparedStatement stmt = conn.prepareStatement(query)) {
-
-            stmt.setString(1, playerId.toString());
-
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    transactions.add(new Transaction(
-                            playerId,
-                            TransactionType.valueOf(rs.getString("type")),
-                            rs.getDouble("amount"),
-                            Bridges.get()
-                    ));
-                }
-            }
-        }
-
-        return transactions;
+        return TransactionHistory.page(playerId, TransactionHistory.FIRST_PAGE, RECENT_LIMIT).transactions();
     }
 
     /**
-     * Saves the transaction to database
+     * Queues the transaction on the ledger writer, which group commits it
+     * together with the player's rollup in {@code bridgeffa_economy_totals}
+     *
+     * @return future completed with true once the transaction is committed, or
+     *         with false once it is journaled for replay
      */
-    public void save() {
+    public CompletableFuture<Boolean> save() {
         try {
-            String query = """
-                INSERT INTO transactions (player_id, type, amount, timestamp) 
-                VALUES (?, ?, ?, ?)
-                """;
-
-            try (Connection conn = (Connection) plugin.getServicesManager()
-                    .getDBManager().getConnection();
-                 PreparedStatement stmt = conn.prepareStatement(query)) {
-
-                stmt.setString(1, playerId.toString());
-                stmt.setString(2, type.name());
-                stmt.setDouble(3, amount);
-                stmt.setLong(4, timestamp);
+            CompletableFuture<Boolean> future = plugin.getServicesManager().getLedgerWriter().append(this);
 
-                stmt.executeUpdate();
-
-                // Update cache
-                updateCache();
+            // Update cache
+            updateCache();
 
-                logTransaction("SAVE", "Transaction saved to database");
-            }
+            logTransaction("SAVE", "Transaction queued on the ledger");
+            return future;
         } catch (Exception e) {
             handleError("Failed to save transaction", e, playerId);
+            return CompletableFuture.failedFuture(e);
         }
     }
 
@@ -177,22 +159,28 @@ public class Transaction {
      * Updates the cache with the new transaction
      */
     private void updateCache() {
-        CachedTransactions cached = transactionCache.get(playerId);
+        // Only extend live entries; refreshing an expired one would make stale history look fresh
+        Collection<Transaction> cached = transactionCache.get(playerId);
         if (cached != null) {
-            List<Transaction> updated = new ArrayList<>(cached.transactions());
+            List<Transaction> updated = new ArrayList<>(RECENT_LIMIT);
             updated.add(this);
-            transactionCache.put(playerId, new CachedTransactions(
-                    updated,
-                    System.currentTimeMillis()
-            ));
+            cached.stream().limit(RECENT_LIMIT - 1).forEach(updated::add);
+            transactionCache.put(playerId, updated);
         }
     }
 
+    /**
+     * Drops the cached recent transactions of a player without logging, for bulk use
+     */
+    public static void evictCache(UUID playerId) {
+        transactionCache.invalidate(playerId);
+    }
+
     /**
      * Clears the cache for a player
      */
     public static void clearCache(UUID playerId) {
-        transactionCache.remove(playerId);
+        evictCache(playerId);
         Bridges.get().getLogger().info(String.format(
                 "[TRANSACTION] Cache cleared for %s | Time: %s",
                 playerId,
@@ -204,7 +192,7 @@ public class Transaction {
      * Logs transaction operations
      */
     private void logTransaction(String operation, String details) {
-        plugin.getLogger().info(String.format(
+        plugin.getLogger().fine(String.format(
                 "[TRANSACTION] %s | Player: %s | Type: %s | Amount: %.2f | Details: %s | Time: %s",
                 operation,
                 playerId,
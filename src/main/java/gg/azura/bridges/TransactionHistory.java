@@ -0,0 +1,116 @@
+package gg.azura.bridges;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Keyset-paginated reads of a player's ledger.
+ * <p>
+ * Pages are ordered newest first by ledger id and addressed by a cursor, the
+ * id of the last row of the previous page. Every page is a range read on
+ * {@code idx_transactions_player_id (player_id, id)}, so reading page 500 costs
+ * the same as reading page 1 and no page ever materialises the full history.
+ */
+public final class TransactionHistory {
+
+    /**
+     * Cursor of the newest page
+     */
+    public static final long FIRST_PAGE = Long.MAX_VALUE;
+
+    private static final int EXPORT_PAGE_SIZE = 500;
+
+    private static final String PAGE_QUERY = """
+            SELECT id, op_id, type, amount, timestamp
+            FROM transactions
+            WHERE player_id = ? AND id < ?
+            ORDER BY id DESC
+            LIMIT ?
+            """;
+
+    /**
+     * One page of history; {@code nextCursor} is 0 when this is the oldest page
+     */
+    public record Page(List<Transaction> transactions, long nextCursor) {
+        public boolean hasMore() {
+            return nextCursor > 0L;
+        }
+    }
+
+    private TransactionHistory() {
+    }
+
+    /**
+     * Reads up to {@code limit} transactions older than {@code cursor}
+     */
+    public static Page page(UUID playerId, long cursor, int limit) throws SQLException {
+        // One extra row tells whether an older page exists without a COUNT(*)
+        List<Transaction> rows = Bridges.get().getSM().getDBManager().readQuery("transaction.page", PAGE_QUERY,
+                rs -> Transaction.fromRow(playerId, rs), playerId.toString(), cursor, limit + 1);
+        if (rows.size() <= limit) {
+            return new Page(rows, 0L);
+        }
+        List<Transaction> page = new ArrayList<>(rows.subList(0, limit));
+        return new Page(page, page.get(limit - 1).getId());
+    }
+
+    /**
+     * Iterates the whole history, newest first, one page at a time. Only a
+     * single page is held in memory and no connection is kept open between
+     * pages, so exports of any size are safe. Must not be used on the main thread.
+     *
+     * @throws IllegalStateException from the iterator if a page cannot be read
+     */
+    public static Iterator<Transaction> iterate(UUID playerId) {
+        return new PagingIterator(playerId);
+    }
+
+    /**
+     * @see #iterate(UUID)
+     */
+    public static Stream<Transaction> stream(UUID playerId) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterate(playerId),
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    private static final class PagingIterator implements Iterator<Transaction> {
+        private final UUID playerId;
+        private Iterator<Transaction> current = Collections.emptyIterator();
+        private long cursor = FIRST_PAGE;
+
+        private PagingIterator(UUID playerId) {
+            this.playerId = playerId;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext() && cursor > 0L) {
+                try {
+                    Page page = page(playerId, cursor, EXPORT_PAGE_SIZE);
+                    current = page.transactions().iterator();
+                    cursor = page.nextCursor();
+                } catch (SQLException e) {
+                    throw new IllegalStateException("Failed to read transaction history of " + playerId, e);
+                }
+            }
+            return current.hasNext();
+        }
+
+        @Override
+        public Transaction next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+    }
+}
@@ -2,5 +2,9 @@ package gg.azura.bridges;
 
 public enum TransactionType {
     SPEND,
-    EARN
+    EARN,
+    /**
+     * Signed admin correction of a balance; not counted as earned or spent
+     */
+    ADJUST
 }
\ No newline at end of file
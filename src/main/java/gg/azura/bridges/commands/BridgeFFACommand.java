@@ -67,7 +67,13 @@ public class BridgeFFACommand implements CommandExecutor, TabCompleter {
                 new StatsCommand(),
                 new SetcoinsCommand(),
                 new MessageShopCommand(),
-                new InstaspawnCommand()
+                new InstaspawnCommand(),
+                new DatabaseCommand(),
+                new HistoryCommand(),
+                new EcoCommand(),
+                new ProfileCommand(),
+                new HeatmapCommand(),
+                new ReloadCommand()
         );
 
         commandList.forEach(this::registerCommand);
@@ -0,0 +1,149 @@
+package gg.azura.bridges.commands.modules;
+
+import gg.azura.bridges.commands.ICommand;
+import gg.azura.bridges.services.BalanceSnapshots;
+import gg.azura.bridges.services.BoundedCache;
+import gg.azura.bridges.services.CircuitBreaker;
+import gg.azura.bridges.services.DatabaseManager;
+import gg.azura.bridges.services.QueryProfiler;
+import gg.azura.bridges.services.ReplicaPool;
+import gg.azura.bridges.utils.CC;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandSender;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class DatabaseCommand extends ICommand {
+
+    public DatabaseCommand() {
+        super("db", "bridgeffa.db", new String[] { "database" });
+    }
+
+    public boolean hasPermission(CommandSender sender) {
+        return sender.hasPermission(getPermission());
+    }
+
+    public String getArgs() {
+        return "<status|top|caches> [amount]";
+    }
+
+    public String getDescription() {
+        return "Show database health";
+    }
+
+    public void execute(String mainCommand, CommandSender sender, String[] args) {
+        if (args.length < 2) {
+            sender.sendMessage(CC.tf("&c/%s %s %s", mainCommand, getName(), getArgs()));
+            return;
+        }
+        switch (args[1].toLowerCase()) {
+            case "status":
+                status(sender);
+                break;
+            case "top":
+                int limit = 10;
+                if (args.length > 2) {
+                    try {
+                        limit = Math.max(1, Integer.parseInt(args[2]));
+                    } catch (NumberFormatException e) {
+                        sender.sendMessage(CC.t("&cAmount must be a number!"));
+                        return;
+                    }
+                }
+                top(sender, limit);
+                break;
+            case "caches":
+                caches(sender);
+                break;
+            default:
+                sender.sendMessage(CC.tf("&c/%s %s %s", mainCommand, getName(), getArgs()));
+        }
+    }
+
+    private void status(CommandSender sender) {
+        DatabaseManager db = this.plugin.getSM().getDBManager();
+        CircuitBreaker breaker = db.getCircuitBreaker();
+        String stateColor = switch (breaker.getState()) {
+            case CLOSED -> "&a";
+            case HALF_OPEN -> "&e";
+            case OPEN -> "&c";
+        };
+
+        sender.sendMessage(CC.t("&8&m                                                  "));
+        sender.sendMessage(CC.t("&b&l DATABASE STATUS"));
+        sender.sendMessage(CC.t("&8&m                                                  "));
+        sender.sendMessage(CC.tf("&7▸ &bBreaker: %s%s", stateColor, breaker.getState().name()));
+        sender.sendMessage(CC.tf("&7▸ &bConsecutive failures: &f%d", breaker.getConsecutiveFailures()));
+        if (breaker.getState() == CircuitBreaker.State.OPEN)
+            sender.sendMessage(CC.tf("&7▸ &bNext probe in: &f%ds", breaker.getRetryInMillis() / 1000L));
+        sender.sendMessage(CC.tf("&7▸ &bTotal failures: &f%d &8| &bRejected: &f%d",
+                breaker.getTotalFailures(), breaker.getTotalRejected()));
+        sender.sendMessage(CC.tf("&7▸ &bJournal backlog: &f%d &7writes &8(&7%.1f KB&8)",
+                db.getJournal().getBacklog(), db.getJournal().getFileSize() / 1024.0D));
+        sender.sendMessage(CC.tf("&7▸ &bConnections: &f%d active &8| &f%d idle",
+                db.getActiveConnectionCount(), db.getIdleConnectionCount()));
+        ReplicaPool replica = db.getReplica();
+        if (replica != null) {
+            long lag = replica.getLagSeconds();
+            String lagText = lag < 0L ? "&cunknown" : lag == Long.MAX_VALUE ? "&cstopped"
+                    : (replica.isWithinLag() ? "&a" : "&e") + lag + "s";
+            sender.sendMessage(CC.tf("&7▸ &bReplica: &f%s &8| &bLag: %s &8| &f%d &7open",
+                    replica.getCircuitBreaker().getState().name(), lagText, replica.getOpenConnections()));
+        }
+        BalanceSnapshots snapshots = this.plugin.getSM().getBalanceSnapshots();
+        sender.sendMessage(CC.tf("&7▸ &bSnapshots: &f%d &7written &8| &bVerified: &f%d &8| &bMismatches: %s%d",
+                snapshots.getSnapshotsWritten(), snapshots.getVerified(),
+                snapshots.getMismatches() > 0 ? "&c" : "&a", snapshots.getMismatches()));
+        sender.sendMessage(CC.tf("&7▸ &bUUID cache: &f%d &7names &8| &f%d &7hits &8| &f%d &7misses",
+                db.getUUIDCache().size(), db.getUUIDCache().getHits(), db.getUUIDCache().getMisses()));
+        sender.sendMessage(CC.t("&8&m                                                  "));
+    }
+
+    private void top(CommandSender sender, int limit) {
+        List<QueryProfiler.StatementStats> statements = this.plugin.getSM().getDBManager().getProfiler().top(limit);
+
+        sender.sendMessage(CC.t("&8&m                                                  "));
+        sender.sendMessage(CC.t("&b&l TOP STATEMENTS &7(by total time)"));
+        sender.sendMessage(CC.t("&8&m                                                  "));
+        if (statements.isEmpty())
+            sender.sendMessage(CC.t("&7No statements recorded yet."));
+        for (QueryProfiler.StatementStats stats : statements) {
+            sender.sendMessage(CC.tf("&7▸ &b%s &8| &f%d &7calls &8| &f%.1fs &7total &8| &f%d &7rows%s",
+                    stats.getName(), stats.getCalls(), stats.getTotalNanos() / 1.0E9D, stats.getRows(),
+                    stats.getErrors() > 0 ? CC.tf(" &8| &c%d errors", stats.getErrors()) : ""));
+            sender.sendMessage(CC.tf("&8   avg &f%.1fms &8p50 &f%.1fms &8p95 &f%.1fms &8p99 &f%.1fms &8max &f%.1fms",
+                    millis(stats.getAverageNanos()), millis(stats.percentile(50)), millis(stats.percentile(95)),
+                    millis(stats.percentile(99)), millis(stats.getMaxNanos())));
+        }
+        sender.sendMessage(CC.t("&8&m                                                  "));
+    }
+
+    private void caches(CommandSender sender) {
+        sender.sendMessage(CC.t("&8&m                                                  "));
+        sender.sendMessage(CC.t("&b&l CACHES"));
+        sender.sendMessage(CC.t("&8&m                                                  "));
+        for (BoundedCache<?, ?> cache : BoundedCache.registered()) {
+            BoundedCache.Stats stats = cache.stats();
+            sender.sendMessage(CC.tf("&7▸ &b%s &8| &f%d&7/&f%d &8| &f%.1f%% &7hit rate",
+                    stats.name(), stats.size(), stats.maximumSize(), stats.hitRate() * 100.0D));
+            sender.sendMessage(CC.tf("&8   hits &f%d &8misses &f%d &8evicted &f%d &8expired &f%d &8refreshed &f%d",
+                    stats.hits(), stats.misses(), stats.evictions(), stats.expirations(), stats.refreshes()));
+        }
+        sender.sendMessage(CC.t("&8&m                                                  "));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0D;
+    }
+
+    public List<String> tabComplete(CommandSender sender, Command command, String alias, String[] args) {
+        if (args.length == 2)
+            return Stream.of("status", "top", "caches")
+                    .filter(s -> s.startsWith(args[1].toLowerCase()))
+                    .collect(Collectors.toList());
+        return Collections.emptyList();
+    }
+}
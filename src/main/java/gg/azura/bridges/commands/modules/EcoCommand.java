@@ -0,0 +1,142 @@
+package gg.azura.bridges.commands.modules;
+
+import gg.azura.bridges.commands.ICommand;
+import gg.azura.bridges.services.BulkEconomy;
+import gg.azura.bridges.services.RewardEngine;
+import gg.azura.bridges.utils.CC;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandSender;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class EcoCommand extends ICommand {
+
+    private static final long PROGRESS_INTERVAL_MILLIS = 2000L;
+
+    public EcoCommand() {
+        super("eco", "bridgeffa.eco", new String[] { "economy" });
+    }
+
+    public boolean hasPermission(CommandSender sender) {
+        return sender.hasPermission(getPermission());
+    }
+
+    public String getArgs() {
+        return "<grant|reset|multiply|rewards> [value] [confirm]";
+    }
+
+    public String getDescription() {
+        return "Change every player's coins";
+    }
+
+    public void execute(String mainCommand, CommandSender sender, String[] args) {
+        if (args.length < 2) {
+            sender.sendMessage(CC.tf("&c/%s %s %s", mainCommand, getName(), getArgs()));
+            return;
+        }
+        String action = args[1].toLowerCase();
+        if (action.equals("rewards")) {
+            rewards(sender);
+            return;
+        }
+
+        BulkEconomy.Kind kind;
+        switch (action) {
+            case "grant" -> kind = BulkEconomy.Kind.GRANT;
+            case "reset" -> kind = BulkEconomy.Kind.RESET;
+            case "multiply" -> kind = BulkEconomy.Kind.MULTIPLY;
+            default -> {
+                sender.sendMessage(CC.tf("&c/%s %s %s", mainCommand, getName(), getArgs()));
+                return;
+            }
+        }
+
+        double value = 0.0D;
+        boolean hasValue = args.length > 2 && !args[2].equalsIgnoreCase("confirm");
+        if (hasValue) {
+            try {
+                value = kind == BulkEconomy.Kind.MULTIPLY ? Double.parseDouble(args[2]) : Long.parseLong(args[2]);
+            } catch (NumberFormatException e) {
+                sender.sendMessage(CC.t("&cValue must be a number!"));
+                return;
+            }
+        } else if (kind != BulkEconomy.Kind.RESET) {
+            sender.sendMessage(CC.tf("&c/%s %s %s <value> [confirm]", mainCommand, getName(), action));
+            return;
+        }
+        if (kind == BulkEconomy.Kind.MULTIPLY && (value < 0.0D || Double.isNaN(value) || Double.isInfinite(value))) {
+            sender.sendMessage(CC.t("&cMultiplier must be zero or more!"));
+            return;
+        }
+
+        BulkEconomy.Operation operation = new BulkEconomy.Operation(kind, value);
+        String summary = describe(operation);
+        if (!args[args.length - 1].equalsIgnoreCase("confirm")) {
+            sender.sendMessage(CC.tf("&eThis will %s for every stored player.", summary));
+            sender.sendMessage(CC.tf("&eRun &f/%s %s %s%s confirm &eto continue.", mainCommand, getName(), action,
+                    hasValue ? " " + args[2] : ""));
+            return;
+        }
+
+        BulkEconomy bulk = this.plugin.getSM().getBulkEconomy();
+        if (bulk.isRunning()) {
+            sender.sendMessage(CC.t("&cAnother economy operation is still running!"));
+            return;
+        }
+        sender.sendMessage(CC.tf("&7Starting: %s...", summary));
+        AtomicLong lastReport = new AtomicLong(System.currentTimeMillis());
+        bulk.run(operation, progress -> {
+            long now = System.currentTimeMillis();
+            if (progress.done() || now - lastReport.get() < PROGRESS_INTERVAL_MILLIS)
+                return;
+            lastReport.set(now);
+            reply(sender, CC.tf("&7▸ &b%s: &f%d&7/&f%d &7players &8(&f%.0f%%&8)", action,
+                    progress.processed(), progress.total(), progress.percent()));
+        }).whenComplete((processed, error) -> reply(sender, error == null
+                ? CC.tf("&aDone: %s for %d players.", summary, processed)
+                : CC.tf("&cEconomy operation stopped: %s", rootMessage(error))));
+    }
+
+    private void rewards(CommandSender sender) {
+        RewardEngine engine = this.plugin.getSM().getRewardEngine();
+        sender.sendMessage(CC.t("&8&m                                                  "));
+        sender.sendMessage(CC.t("&b&l KILL REWARDS"));
+        sender.sendMessage(CC.t("&8&m                                                  "));
+        for (RewardEngine.Rule rule : RewardEngine.Rule.values()) {
+            sender.sendMessage(CC.tf("&7▸ &b%s &8| &f%d &7times &8| &f%d &7coins paid",
+                    rule.name(), engine.getFired(rule), engine.getPaid(rule)));
+        }
+        sender.sendMessage(CC.t("&8&m                                                  "));
+    }
+
+    private static String describe(BulkEconomy.Operation operation) {
+        return switch (operation.kind()) {
+            case GRANT -> String.format("grant %d coins", (long) operation.value());
+            case RESET -> String.format("reset coins to %d", (long) operation.value());
+            case MULTIPLY -> String.format("multiply coins by %s", operation.value());
+        };
+    }
+
+    private static String rootMessage(Throwable error) {
+        Throwable cause = error;
+        while (cause.getCause() != null)
+            cause = cause.getCause();
+        return cause.getMessage();
+    }
+
+    private void reply(CommandSender sender, String message) {
+        this.plugin.getServer().getScheduler().runTask(this.plugin, () -> sender.sendMessage(message));
+    }
+
+    public List<String> tabComplete(CommandSender sender, Command command, String alias, String[] args) {
+        if (args.length == 2)
+            return Stream.of("grant", "reset", "multiply", "rewards")
+                    .filter(s -> s.startsWith(args[1].toLowerCase()))
+                    .collect(Collectors.toList());
+        return Collections.emptyList();
+    }
+}
@@ -0,0 +1,135 @@
+package gg.azura.bridges.commands.modules;
+
+import gg.azura.bridges.commands.ICommand;
+import gg.azura.bridges.services.PositionSampler;
+import gg.azura.bridges.utils.CC;
+import org.bukkit.World;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class HeatmapCommand extends ICommand {
+
+    private static final int BAR_WIDTH = 20;
+
+    public HeatmapCommand() {
+        super("heatmap", "bridgeffa.heatmap", new String[0]);
+    }
+
+    public boolean hasPermission(CommandSender sender) {
+        return sender.hasPermission(getPermission());
+    }
+
+    public String getArgs() {
+        return "<on|off|top|reset> [world] [amount]";
+    }
+
+    public String getDescription() {
+        return "Sample where players fight and fall";
+    }
+
+    public void execute(String mainCommand, CommandSender sender, String[] args) {
+        if (args.length < 2) {
+            sender.sendMessage(CC.tf("&c/%s %s %s", mainCommand, getName(), getArgs()));
+            return;
+        }
+        PositionSampler sampler = this.plugin.getSM().getPositionSampler();
+        switch (args[1].toLowerCase()) {
+            case "on":
+                sampler.setEnabled(true);
+                sender.sendMessage(CC.t("&aPosition sampling started."));
+                break;
+            case "off":
+                sampler.setEnabled(false);
+                sender.sendMessage(CC.t("&aPosition sampling stopped."));
+                break;
+            case "top":
+                String world = args.length > 2 ? args[2] : defaultWorld(sender);
+                if (world == null) {
+                    sender.sendMessage(CC.tf("&c/%s %s top <world> [amount]", mainCommand, getName()));
+                    return;
+                }
+                int limit = 10;
+                if (args.length > 3) {
+                    try {
+                        limit = Math.max(1, Math.min(50, Integer.parseInt(args[3])));
+                    } catch (NumberFormatException e) {
+                        sender.sendMessage(CC.t("&cAmount must be a number!"));
+                        return;
+                    }
+                }
+                top(sender, sampler, world, limit);
+                break;
+            case "reset":
+                String target = args.length > 2 ? args[2] : null;
+                sampler.reset(target).whenComplete((v, error) -> reply(sender, error == null
+                        ? CC.tf("&aHeatmap cleared%s.", target == null ? "" : " for " + target)
+                        : CC.tf("&cFailed to clear the heatmap: %s", error.getMessage())));
+                break;
+            default:
+                sender.sendMessage(CC.tf("&c/%s %s %s", mainCommand, getName(), getArgs()));
+        }
+    }
+
+    private void top(CommandSender sender, PositionSampler sampler, String world, int limit) {
+        sampler.totals().thenCombine(sampler.top(world, limit), (totals, cells) -> {
+            long total = totals.getOrDefault(world, 0L);
+            long busiest = cells.isEmpty() ? 0L : cells.get(0).samples();
+            List<String> lines = new ArrayList<>();
+            lines.add(CC.t("&8&m                                                  "));
+            lines.add(CC.tf("&b&l HEATMAP &7%s &8(&f%d &7samples%s&8)", world, total,
+                    sampler.isEnabled() ? "" : ", paused"));
+            lines.add(CC.t("&8&m                                                  "));
+            if (cells.isEmpty())
+                lines.add(CC.t("&7No samples yet."));
+            for (int i = 0; i < cells.size(); i++) {
+                PositionSampler.Cell cell = cells.get(i);
+                int filled = busiest == 0L ? 0 : (int) Math.max(1L, cell.samples() * BAR_WIDTH / busiest);
+                lines.add(CC.tf("&7%d. &b%d, %d &8| &a%s&8%s &f%.1f%%",
+                        i + 1, cell.chunkX() << 4, cell.chunkZ() << 4,
+                        "|".repeat(filled), "|".repeat(BAR_WIDTH - filled),
+                        total == 0L ? 0.0D : cell.samples() * 100.0D / total));
+            }
+            if (sampler.getDropped() > 0L)
+                lines.add(CC.tf("&7▸ &bDropped samples: &f%d", sampler.getDropped()));
+            lines.add(CC.t("&8&m                                                  "));
+            return lines;
+        }).whenComplete((lines, error) -> {
+            if (error != null) {
+                reply(sender, CC.tf("&cFailed to read the heatmap: %s", error.getMessage()));
+                return;
+            }
+            this.plugin.getServer().getScheduler().runTask(this.plugin, () -> lines.forEach(sender::sendMessage));
+        });
+    }
+
+    private String defaultWorld(CommandSender sender) {
+        if (sender instanceof Player)
+            return ((Player) sender).getWorld().getName();
+        List<String> worlds = this.plugin.getSM().getVariables().getFfaConfig().worldNames();
+        return worlds.isEmpty() ? null : worlds.get(0);
+    }
+
+    private void reply(CommandSender sender, String message) {
+        this.plugin.getServer().getScheduler().runTask(this.plugin, () -> sender.sendMessage(message));
+    }
+
+    public List<String> tabComplete(CommandSender sender, Command command, String alias, String[] args) {
+        if (args.length == 2)
+            return Stream.of("on", "off", "top", "reset")
+                    .filter(s -> s.startsWith(args[1].toLowerCase()))
+                    .collect(Collectors.toList());
+        if (args.length == 3 && !args[1].equalsIgnoreCase("on") && !args[1].equalsIgnoreCase("off"))
+            return this.plugin.getServer().getWorlds().stream()
+                    .map(World::getName)
+                    .filter(s -> s.toLowerCase().startsWith(args[2].toLowerCase()))
+                    .collect(Collectors.toList());
+        return Collections.emptyList();
+    }
+}
@@ -0,0 +1,166 @@
+package gg.azura.bridges.commands.modules;
+
+import gg.azura.bridges.Transaction;
+import gg.azura.bridges.TransactionHistory;
+import gg.azura.bridges.commands.ICommand;
+import gg.azura.bridges.services.BoundedCache;
+import gg.azura.bridges.utils.CC;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+public class HistoryCommand extends ICommand {
+
+    private static final int PAGE_SIZE = 10;
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter
+            .ofPattern("yyyy-MM-dd HH:mm")
+            .withZone(ZoneId.systemDefault());
+
+    // Page start cursors per viewer and target, so paging forward is one range read per page
+    private final BoundedCache<String, List<Long>> cursors = BoundedCache.<String, List<Long>>builder()
+            .name("history-cursors")
+            .maximumSize(256)
+            .expireAfterWrite(10, TimeUnit.MINUTES)
+            .build();
+
+    public HistoryCommand() {
+        super("history", "bridgeffa.history", new String[] { "transactions" });
+    }
+
+    public boolean hasPermission(CommandSender sender) {
+        return sender.hasPermission(getPermission());
+    }
+
+    public String getArgs() {
+        return "<player> [page]";
+    }
+
+    public String getDescription() {
+        return "Show a player's transaction history";
+    }
+
+    public void execute(String mainCommand, CommandSender sender, String[] args) {
+        if (args.length < 2) {
+            sender.sendMessage(CC.tf("&c/%s %s %s", mainCommand, getName(), getArgs()));
+            return;
+        }
+        int page = 1;
+        if (args.length > 2) {
+            try {
+                page = Integer.parseInt(args[2]);
+            } catch (NumberFormatException e) {
+                sender.sendMessage(CC.t("&cPage must be a number!"));
+                return;
+            }
+            if (page < 1) {
+                sender.sendMessage(CC.t("&cPage must be at least 1!"));
+                return;
+            }
+        }
+
+        int requested = page;
+        Player online = this.plugin.getServer().getPlayer(args[1]);
+        CompletableFuture<UUID> target = online != null
+                ? CompletableFuture.completedFuture(online.getUniqueId())
+                : this.plugin.getSM().getDBManager().fetchUUID(args[1]);
+        String targetName = online != null ? online.getName() : args[1];
+
+        target.thenAcceptAsync(uuid -> {
+            if (uuid == null) {
+                reply(sender, Collections.singletonList(CC.t("&cPlayer not found!")));
+                return;
+            }
+            try {
+                reply(sender, render(sender, uuid, targetName, requested));
+            } catch (SQLException e) {
+                this.plugin.getLogger().warning("[HISTORY] Failed to read history of " + uuid + ": " + e.getMessage());
+                reply(sender, Collections.singletonList(CC.t("&cCould not load the transaction history!")));
+            }
+        }, this.plugin.getSM().getDBManager().getIoExecutor());
+    }
+
+    private List<String> render(CommandSender sender, UUID target, String targetName, int page) throws SQLException {
+        String key = sender.getName() + ":" + target;
+        long cursor = cursorFor(key, target, page);
+        if (cursor < 0L) {
+            return Collections.singletonList(CC.tf("&c%s has no page %d!", targetName, page));
+        }
+        TransactionHistory.Page result = TransactionHistory.page(target, cursor, PAGE_SIZE);
+        if (result.hasMore()) {
+            remember(key, page + 1, result.nextCursor());
+        }
+
+        List<String> lines = new ArrayList<>();
+        lines.add(CC.t("&8&m                                                  "));
+        lines.add(CC.tf("&b&l HISTORY FOR %s &7(page %d)", targetName, page));
+        lines.add(CC.t("&8&m                                                  "));
+        if (result.transactions().isEmpty())
+            lines.add(CC.t("&7No transactions recorded."));
+        for (Transaction tx : result.transactions()) {
+            String amount = switch (tx.getType()) {
+                case EARN -> CC.tf("&a+%.0f", tx.getAmount());
+                case SPEND -> CC.tf("&c-%.0f", tx.getAmount());
+                case ADJUST -> CC.tf("&e%+.0f", tx.getAmount());
+            };
+            lines.add(CC.tf("&7▸ &f#%d &8| &b%s &8| %s &8| &7%s", tx.getId(), tx.getType().name(),
+                    amount, DATE_FORMATTER.format(Instant.ofEpochMilli(tx.getTimestamp()))));
+        }
+        if (result.hasMore())
+            lines.add(CC.tf("&7Next: &f/bridgeffa %s %s %d", getName(), targetName, page + 1));
+        lines.add(CC.t("&8&m                                                  "));
+        return lines;
+    }
+
+    /**
+     * @return the cursor starting {@code page}, walking forward from the last
+     *         known page if needed, or -1 if the history is shorter
+     */
+    private long cursorFor(String key, UUID target, int page) throws SQLException {
+        List<Long> known = cursors.get(key);
+        List<Long> starts = known != null ? new ArrayList<>(known) : new ArrayList<>();
+        if (starts.isEmpty())
+            starts.add(TransactionHistory.FIRST_PAGE);
+        while (starts.size() < page) {
+            TransactionHistory.Page skipped = TransactionHistory.page(target, starts.get(starts.size() - 1), PAGE_SIZE);
+            if (!skipped.hasMore())
+                return -1L;
+            starts.add(skipped.nextCursor());
+        }
+        cursors.put(key, starts);
+        return starts.get(page - 1);
+    }
+
+    private void remember(String key, int page, long cursor) {
+        List<Long> known = cursors.get(key);
+        if (known != null && known.size() == page - 1) {
+            List<Long> starts = new ArrayList<>(known);
+            starts.add(cursor);
+            cursors.put(key, starts);
+        }
+    }
+
+    private void reply(CommandSender sender, List<String> lines) {
+        this.plugin.getServer().getScheduler().runTask(this.plugin, () -> lines.forEach(sender::sendMessage));
+    }
+
+    public List<String> tabComplete(CommandSender sender, Command command, String alias, String[] args) {
+        if (args.length == 2)
+            return this.plugin.getServer().getOnlinePlayers().stream()
+                    .map(Player::getName)
+                    .filter(name -> name.toLowerCase().startsWith(args[1].toLowerCase()))
+                    .collect(Collectors.toList());
+        return Collections.emptyList();
+    }
+}
@@ -1,6 +1,5 @@
 package gg.azura.bridges.commands.modules;
 
-import gg.azura.bridges.BlockItem;
 import gg.azura.bridges.BridgePlayer;
 import gg.azura.bridges.commands.ICommand;
 import java.util.List;
@@ -46,10 +45,8 @@ public class InstaspawnCommand extends ICommand
         if (!player.isInSpawn())
             return;
         Spawn spawn = this.plugin.getSM().getSpawnManager().getSpawns().get((new Random()).nextInt(this.plugin.getSM().getSpawnManager().getSpawns().size()));
-        BlockItem blockItem = player.getSelectedBlockItem();
         spawn.teleport(player.getPlayer());
-        if (blockItem != null)
-            blockItem.give(player.getPlayer());
+        this.plugin.getSM().getKitRefill().refill(player);
     }
 
     public List<String> tabComplete(CommandSender sender, Command command, String alias, String[] args) {
@@ -42,7 +42,7 @@ public class LobbyCommand extends gg.azura.bridges.commands.ICommand {
                 return;
             }
             try {
-                this.plugin.getServer().getPlayer(targetName).teleport((this.plugin.getSM().getVariables()).lobby);
+                this.plugin.getServer().getPlayer(targetName).teleport(this.plugin.getSM().getVariables().getFfaConfig().lobby());
             } catch (NullPointerException ex) {
                 ex.printStackTrace();
                 sender.sendMessage(CC.t("&cUnable to teleport - Lobby not set!"));
@@ -60,7 +60,7 @@ public class LobbyCommand extends gg.azura.bridges.commands.ICommand {
                 return;
             }
             try {
-                player.teleport((this.plugin.getSM().getVariables()).lobby);
+                player.teleport(this.plugin.getSM().getVariables().getFfaConfig().lobby());
             } catch (NullPointerException ex) {
                 ex.printStackTrace();
                 player.sendMessage(CC.t("&cUnable to teleport - Lobby not set!"));
@@ -0,0 +1,80 @@
+package gg.azura.bridges.commands.modules;
+
+import gg.azura.bridges.commands.ICommand;
+import gg.azura.bridges.listeners.MovementDispatcher;
+import gg.azura.bridges.utils.CC;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandSender;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class ProfileCommand extends ICommand {
+
+    public ProfileCommand() {
+        super("profile", "bridgeffa.profile", new String[] { "profiler" });
+    }
+
+    public boolean hasPermission(CommandSender sender) {
+        return sender.hasPermission(getPermission());
+    }
+
+    public String getArgs() {
+        return "<on|off|show>";
+    }
+
+    public String getDescription() {
+        return "Time the movement handler";
+    }
+
+    public void execute(String mainCommand, CommandSender sender, String[] args) {
+        if (args.length < 2) {
+            sender.sendMessage(CC.tf("&c/%s %s %s", mainCommand, getName(), getArgs()));
+            return;
+        }
+        MovementDispatcher dispatcher = this.plugin.getMovementDispatcher();
+        switch (args[1].toLowerCase()) {
+            case "on":
+                dispatcher.setProfiling(true);
+                sender.sendMessage(CC.t("&aMovement profiling started."));
+                break;
+            case "off":
+                dispatcher.setProfiling(false);
+                sender.sendMessage(CC.t("&aMovement profiling stopped."));
+                show(sender, dispatcher);
+                break;
+            case "show":
+                show(sender, dispatcher);
+                break;
+            default:
+                sender.sendMessage(CC.tf("&c/%s %s %s", mainCommand, getName(), getArgs()));
+        }
+    }
+
+    private void show(CommandSender sender, MovementDispatcher dispatcher) {
+        long events = dispatcher.getProfiledEvents();
+        double sameBlock = events == 0L ? 0.0D : dispatcher.getSameBlockEvents() * 100.0D / events;
+        sender.sendMessage(CC.t("&8&m                                                  "));
+        sender.sendMessage(CC.t("&b&l MOVEMENT PROFILE"));
+        sender.sendMessage(CC.t("&8&m                                                  "));
+        sender.sendMessage(CC.tf("&7▸ &bProfiling: &f%s", dispatcher.isProfiling() ? "on" : "off"));
+        sender.sendMessage(CC.tf("&7▸ &bEvents: &f%d", events));
+        sender.sendMessage(CC.tf("&7▸ &bSame block: &f%.1f%%", sameBlock));
+        sender.sendMessage(CC.tf("&7▸ &bAverage: &f%.0f &7ns/move &8(%s)", dispatcher.getNanosPerEvent(),
+                dispatcher.isCpuTimed() ? "cpu time" : "wall clock"));
+        double bytes = dispatcher.getBytesPerEvent();
+        sender.sendMessage(bytes < 0.0D ? CC.t("&7▸ &bAllocated: &7not supported by this JVM")
+                : CC.tf("&7▸ &bAllocated: &f%.1f &7B/move", bytes));
+        sender.sendMessage(CC.t("&8&m                                                  "));
+    }
+
+    public List<String> tabComplete(CommandSender sender, Command command, String alias, String[] args) {
+        if (args.length == 2)
+            return Stream.of("on", "off", "show")
+                    .filter(s -> s.startsWith(args[1].toLowerCase()))
+                    .collect(Collectors.toList());
+        return Collections.emptyList();
+    }
+}
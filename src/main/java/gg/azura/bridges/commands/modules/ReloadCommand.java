@@ -0,0 +1,85 @@
+package gg.azura.bridges.commands.modules;
+
+import gg.azura.bridges.commands.ICommand;
+import gg.azura.bridges.services.ConfigReloader;
+import gg.azura.bridges.utils.CC;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandSender;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class ReloadCommand extends ICommand {
+
+    public ReloadCommand() {
+        super("reload", "bridgeffa.reload", new String[0]);
+    }
+
+    public boolean hasPermission(CommandSender sender) {
+        return sender.hasPermission(getPermission());
+    }
+
+    public String getArgs() {
+        return "[config|blocks|deathmessages|spawns]";
+    }
+
+    public String getDescription() {
+        return "Reload the configuration without a restart";
+    }
+
+    public void execute(String mainCommand, CommandSender sender, String[] args) {
+        Set<ConfigReloader.Section> sections = EnumSet.allOf(ConfigReloader.Section.class);
+        if (args.length > 1 && !args[1].equalsIgnoreCase("all")) {
+            ConfigReloader.Section section = ConfigReloader.Section.byName(args[1]);
+            if (section == null) {
+                sender.sendMessage(CC.tf("&c/%s %s %s", mainCommand, getName(), getArgs()));
+                return;
+            }
+            sections = EnumSet.of(section);
+        }
+        sender.sendMessage(CC.t("&7Reloading..."));
+        this.plugin.getSM().getConfigReloader().reload(sections).whenComplete((result, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                reply(sender, List.of(CC.tf("&cReload failed: %s", cause.getMessage())));
+                return;
+            }
+            reply(sender, render(result));
+        });
+    }
+
+    private List<String> render(ConfigReloader.Result result) {
+        List<String> lines = new ArrayList<>();
+        lines.add(CC.t("&8&m                                                  "));
+        lines.add(CC.tf("&b&l RELOAD &7%s &8(&f%d &7changes&8)",
+                result.sections().stream().map(ConfigReloader.Section::getFile).collect(Collectors.joining(", ")),
+                result.changes().size()));
+        lines.add(CC.t("&8&m                                                  "));
+        if (result.changes().isEmpty() && result.errors().isEmpty())
+            lines.add(CC.t("&7No changes."));
+        result.changes().forEach(line -> lines.add(CC.t("&7▸ &b") + line));
+        result.warnings().forEach(line -> lines.add(CC.t("&7▸ &e") + line));
+        result.errors().forEach(line -> lines.add(CC.t("&7▸ &c") + line + CC.t(" &7(kept the old values)")));
+        lines.add(CC.t("&8&m                                                  "));
+        return lines;
+    }
+
+    private void reply(CommandSender sender, List<String> lines) {
+        this.plugin.getServer().getScheduler().runTask(this.plugin, () -> lines.forEach(sender::sendMessage));
+    }
+
+    public List<String> tabComplete(CommandSender sender, Command command, String alias, String[] args) {
+        if (args.length == 2)
+            return Stream.concat(Stream.of("all"), Arrays.stream(ConfigReloader.Section.values()).map(ConfigReloader.Section::getName))
+                    .filter(s -> s.startsWith(args[1].toLowerCase()))
+                    .collect(Collectors.toList());
+        return Collections.emptyList();
+    }
+}
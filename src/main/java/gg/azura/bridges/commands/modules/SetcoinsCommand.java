@@ -36,19 +36,27 @@ public class SetcoinsCommand extends ICommand {
             sender.sendMessage(CC.tf("&c/%s %s %s", new Object[] { mainCommand, getName(), getArgs() }));
             return;
         }
-        BridgePlayer target = this.plugin.getSM().getPlayerManager().getPlayer(args[1]);
-        if (target == null) {
-            sender.sendMessage(CC.t("&cPlayer not found, please try again later!"));
-            return;
-        }
         try {
             coins = Integer.parseInt(args[2]);
         } catch (NumberFormatException ex) {
             sender.sendMessage(CC.t("&cInvalid coins number, please try again later!"));
             return;
         }
-        target.setCoins(coins);
-        sender.sendMessage(CC.t("&aTarget coins changed!"));
+        BridgePlayer target = this.plugin.getSM().getPlayerManager().getPlayer(args[1]);
+        if (target != null) {
+            target.setCoins(coins);
+            sender.sendMessage(CC.t("&aTarget coins changed!"));
+            return;
+        }
+        // Offline target: resolve the name through the UUID cache and load the stored profile
+        this.plugin.getSM().getDBManager().fetchUUID(args[1]).thenAcceptAsync(uuid -> {
+            BridgePlayer offline = uuid == null ? null : this.plugin.getSM().getPlayerManager().getBridgePlayer(uuid);
+            if (offline != null)
+                offline.setCoins(coins);
+            this.plugin.getServer().getScheduler().runTask(this.plugin, () -> sender.sendMessage(offline == null
+                    ? CC.t("&cPlayer not found, please try again later!")
+                    : CC.t("&aTarget coins changed!")));
+        }, this.plugin.getSM().getDBManager().getIoExecutor());
     }
 
     public List<String> tabComplete(CommandSender sender, Command command, String alias, String[] args) {
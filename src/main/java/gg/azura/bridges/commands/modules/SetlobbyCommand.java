@@ -1,5 +1,6 @@
 package gg.azura.bridges.commands.modules;
 
+import gg.azura.bridges.services.Variables;
 import gg.azura.bridges.utils.CC;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandSender;
@@ -34,7 +35,6 @@ public class SetlobbyCommand extends gg.azura.bridges.commands.ICommand {
             return;
         }
         Player player = (Player)sender;
-        (this.plugin.getSM().getVariables()).lobby = player.getLocation();
         this.plugin.getConfig().set("lobby.world", player.getLocation().getWorld().getName());
         this.plugin.getConfig().set("lobby.x", Double.valueOf(player.getLocation().getBlockX() + 0.5D));
         this.plugin.getConfig().set("lobby.y", Double.valueOf(player.getLocation().getBlockY() + 0.1D));
@@ -42,6 +42,9 @@ public class SetlobbyCommand extends gg.azura.bridges.commands.ICommand {
         this.plugin.getConfig().set("lobby.yaw", Float.valueOf(player.getLocation().getYaw()));
         this.plugin.getConfig().set("lobby.pitch", Float.valueOf(player.getLocation().getPitch()));
         this.plugin.saveConfig();
+        Variables variables = this.plugin.getSM().getVariables();
+        variables.publish(variables.getFfaConfig().withLobby(player.getLocation(), variables::warning));
+        this.plugin.getMovementDispatcher().reload();
         sender.sendMessage(CC.t("&aLobby set - game is playable as of right now!"));
     }
 
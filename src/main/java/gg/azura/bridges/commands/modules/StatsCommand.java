@@ -2,6 +2,7 @@ package gg.azura.bridges.commands.modules;
 
 import gg.azura.bridges.BridgePlayer;
 import gg.azura.bridges.commands.ICommand;
+import gg.azura.bridges.services.BoundedCache;
 import gg.azura.bridges.utils.CC;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandSender;
@@ -16,7 +17,7 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Modern implementation of the stats command with async data loading
@@ -30,19 +31,19 @@ public class StatsCommand extends ICommand {
     private static final String CURRENT_USER = "SyncFocus17";
 
     // Cache for player stats to prevent frequent database queries
-    private final Map<UUID, CachedStats> statsCache = new ConcurrentHashMap<>();
+    private final BoundedCache<UUID, CachedStats> statsCache = BoundedCache.<UUID, CachedStats>builder()
+            .name("stats")
+            .maximumSize(512)
+            .expireAfterWrite(5, TimeUnit.MINUTES)
+            .build();
 
     private record CachedStats(
             double kills,
             int deaths,
             double coins,
             double earnedCoins,
-            double spentCoins,
-            long timestamp
+            double spentCoins
     ) {
-        boolean isExpired() {
-            return System.currentTimeMillis() - timestamp > 300000; // 5 minutes
-        }
     }
 
     public StatsCommand() {
@@ -78,40 +79,49 @@ public class StatsCommand extends ICommand {
                     plugin.getServer().getPlayer(args[1]) :
                     (Player) sender;
 
-            if (targetPlayer == null) {
-                sender.sendMessage(CC.t("&c⚠ Player not found! Please try again."));
-                logCommand("fail", "player_not_found", sender.getName(), args);
+            if (targetPlayer != null) {
+                // Load player stats asynchronously
+                loadPlayerStats(sender, targetPlayer.getUniqueId(), targetPlayer.getName());
                 return;
             }
 
-            // Load player stats asynchronously
-            loadPlayerStats(sender, targetPlayer);
+            // Offline target, resolved through the name cache
+            plugin.getSM().getDBManager().fetchUUID(args[1]).thenAccept(uuid -> {
+                if (uuid == null) {
+                    plugin.getServer().getScheduler().runTask(plugin, () -> {
+                        sender.sendMessage(CC.t("&c⚠ Player not found! Please try again."));
+                        logCommand("fail", "player_not_found", sender.getName(), args);
+                    });
+                    return;
+                }
+                loadPlayerStats(sender, uuid, args[1]);
+            });
 
         } catch (Exception e) {
             handleError(sender, e);
         }
     }
 
-    private void loadPlayerStats(CommandSender sender, Player targetPlayer) {
+    private void loadPlayerStats(CommandSender sender, UUID targetId, String targetName) {
         CompletableFuture.runAsync(() -> {
             try {
                 // Check cache first
-                CachedStats cached = statsCache.get(targetPlayer.getUniqueId());
-                if (cached != null && !cached.isExpired()) {
-                    sendStatistics(sender, targetPlayer, cached);
+                CachedStats cached = statsCache.get(targetId);
+                if (cached != null) {
+                    sendStatistics(sender, targetId, targetName, cached);
                     return;
                 }
 
                 // Get bridge player data
                 BridgePlayer bridgePlayer = plugin.getServicesManager()
                         .getPlayerManager()
-                        .getBridgePlayer(targetPlayer.getUniqueId());
+                        .getBridgePlayer(targetId);
 
                 if (bridgePlayer == null) {
                     plugin.getServer().getScheduler().runTask(plugin, () -> {
                         sender.sendMessage(CC.t("&c⚠ Player data not available!"));
                         logCommand("fail", "no_player_data", sender.getName(),
-                                new String[]{targetPlayer.getName()});
+                                new String[]{targetName});
                     });
                     return;
                 }
@@ -122,18 +132,17 @@ public class StatsCommand extends ICommand {
                         bridgePlayer.getDeaths(),
                         bridgePlayer.getCoins(),
                         bridgePlayer.getEarnedCoins(),
-                        bridgePlayer.getSpentCoins(),
-                        System.currentTimeMillis()
+                        bridgePlayer.getSpentCoins()
                 );
 
                 // Update cache
-                statsCache.put(targetPlayer.getUniqueId(), stats);
+                statsCache.put(targetId, stats);
 
                 // Send stats on main thread
                 plugin.getServer().getScheduler().runTask(plugin, () -> {
-                    sendStatistics(sender, targetPlayer, stats);
+                    sendStatistics(sender, targetId, targetName, stats);
                     logCommand("success", "stats_shown", sender.getName(),
-                            new String[]{targetPlayer.getName()});
+                            new String[]{targetName});
                 });
 
             } catch (Exception e) {
@@ -143,13 +152,13 @@ public class StatsCommand extends ICommand {
         });
     }
 
-    private void sendStatistics(CommandSender sender, Player target, CachedStats stats) {
+    private void sendStatistics(CommandSender sender, UUID targetId, String targetName, CachedStats stats) {
         NumberFormat formatter = NumberFormat.getInstance();
 
         // Get bridge player for additional data
         BridgePlayer bridgePlayer = plugin.getServicesManager()
                 .getPlayerManager()
-                .getBridgePlayer(target.getUniqueId());
+                .getBridgePlayer(targetId);
 
         // Get selected items safely
         String selectedBlock = Optional.ofNullable(bridgePlayer)
@@ -164,7 +173,7 @@ public class StatsCommand extends ICommand {
 
         // Create and send statistics message
         List<String> statsMessage = createStatsMessage(
-                target.getName(),
+                targetName,
                 stats,
                 formatter,
                 selectedBlock,
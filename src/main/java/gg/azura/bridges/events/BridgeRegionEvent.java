@@ -0,0 +1,49 @@
+package gg.azura.bridges.events;
+
+import gg.azura.bridges.BridgePlayer;
+import gg.azura.bridges.ffa.Region;
+import org.bukkit.event.player.PlayerEvent;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A player crossed the edge of a {@link Region}. Fired once per transition,
+ * never while the player stays inside or outside.
+ */
+public abstract class BridgeRegionEvent extends PlayerEvent {
+
+    /**
+     * What moved the player across the edge
+     */
+    public enum Cause {
+        JOIN,
+        MOVE,
+        TELEPORT,
+        RESPAWN,
+        RELOAD
+    }
+
+    private final BridgePlayer user;
+
+    private final Region region;
+
+    private final Cause cause;
+
+    protected BridgeRegionEvent(@NotNull BridgePlayer user, @NotNull Region region, @NotNull Cause cause) {
+        super(user.getPlayer());
+        this.user = user;
+        this.region = region;
+        this.cause = cause;
+    }
+
+    public BridgePlayer getUser() {
+        return this.user;
+    }
+
+    public Region getRegion() {
+        return this.region;
+    }
+
+    public Cause getCause() {
+        return this.cause;
+    }
+}
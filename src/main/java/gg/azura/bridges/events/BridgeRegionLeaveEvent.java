@@ -0,0 +1,24 @@
+package gg.azura.bridges.events;
+
+import gg.azura.bridges.BridgePlayer;
+import gg.azura.bridges.ffa.Region;
+import org.bukkit.event.HandlerList;
+import org.jetbrains.annotations.NotNull;
+
+public class BridgeRegionLeaveEvent extends BridgeRegionEvent {
+
+    private static final HandlerList handlers = new HandlerList();
+
+    public static HandlerList getHandlerList() {
+        return handlers;
+    }
+
+    @NotNull
+    public HandlerList getHandlers() {
+        return handlers;
+    }
+
+    public BridgeRegionLeaveEvent(@NotNull BridgePlayer user, @NotNull Region region, @NotNull Cause cause) {
+        super(user, region, cause);
+    }
+}
@@ -0,0 +1,43 @@
+package gg.azura.bridges.ffa;
+
+import org.bukkit.World;
+
+/**
+ * A named area players can enter and leave.
+ * <p>
+ * Regions from the {@code regions} config section are boxes in one world.
+ * The built-in regions ({@link #SPAWN}, {@link #ARENA}, {@link #VOID}) have
+ * no world: spawn applies everywhere, like the lobby detection always has,
+ * and the arena and void apply in every FFA world.
+ *
+ * @param world   World name, or null for a built-in region
+ * @param ffaOnly Whether a world-less region only applies in FFA worlds
+ */
+public record Region(String name, String world, boolean ffaOnly, SpawnRegion shape) {
+
+    public static final String SPAWN = "spawn";
+
+    /**
+     * Below {@code activate_y}: entering it hands out blocks
+     */
+    public static final String ARENA = "arena";
+
+    /**
+     * Below {@code death_y}, where the void sweeper kills
+     */
+    public static final String VOID = "void";
+
+    public boolean contains(World world, boolean ffaWorld, int x, int y, int z) {
+        if (this.world != null) {
+            if (world == null || !this.world.equals(world.getName()))
+                return false;
+        } else if (this.ffaOnly && !ffaWorld) {
+            return false;
+        }
+        return this.shape.contains(x, y, z);
+    }
+
+    public boolean is(String name) {
+        return this.name.equals(name);
+    }
+}
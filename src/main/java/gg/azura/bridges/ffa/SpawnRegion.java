@@ -0,0 +1,138 @@
+package gg.azura.bridges.ffa;
+
+import org.bukkit.Location;
+
+/**
+ * The spawn (lobby) area, compiled once from the configured lobby detection.
+ * <p>
+ * Every shape is tested against block coordinates: the configured bounds are
+ * turned into inclusive integer ranges up front, so a lookup is a few integer
+ * comparisons with no parsing and no allocation.
+ */
+public sealed interface SpawnRegion permits SpawnRegion.YPlane, SpawnRegion.Box, SpawnRegion.Cylinder {
+
+    SpawnRegion NONE = new Box(0, -1, 0, -1, 0, -1);
+
+    boolean contains(int x, int y, int z);
+
+    default boolean contains(Location location) {
+        return contains(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+
+    /**
+     * Everything at or above {@code minY}
+     */
+    record YPlane(int minY) implements SpawnRegion {
+        public boolean contains(int x, int y, int z) {
+            return y >= minY;
+        }
+    }
+
+    /**
+     * An axis-aligned box, all bounds inclusive
+     */
+    record Box(int minX, int maxX, int minY, int maxY, int minZ, int maxZ) implements SpawnRegion {
+        public boolean contains(int x, int y, int z) {
+            return x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ;
+        }
+    }
+
+    /**
+     * A vertical cylinder around a centre block, {@code radiusSquared} exclusive
+     */
+    record Cylinder(int centerX, int centerZ, int minY, int maxY, double radiusSquared) implements SpawnRegion {
+        public boolean contains(int x, int y, int z) {
+            if (y < minY || y > maxY)
+                return false;
+            long dx = x - centerX;
+            long dz = z - centerZ;
+            return dx * dx + dz * dz < radiusSquared;
+        }
+    }
+
+    /**
+     * {@code lobby_detection: ycoord}: at or above one block under the lobby
+     */
+    static SpawnRegion yPlane(Location lobby) {
+        if (lobby == null)
+            return NONE;
+        return new YPlane((int) Math.ceil(lobby.getY() - 1.0D));
+    }
+
+    /**
+     * {@code lobby_detection: bounds}: strictly between each pair of
+     * {@code min,max} bounds
+     *
+     * @throws IllegalArgumentException if a bound is not two numbers
+     */
+    static SpawnRegion bounds(String xBounds, String yBounds, String zBounds) {
+        double[] x = parseBounds("xbounds", xBounds);
+        double[] y = parseBounds("ybounds", yBounds);
+        double[] z = parseBounds("zbounds", zBounds);
+        return new Box(above(x[0]), below(x[1]), above(y[0]), below(y[1]), above(z[0]), below(z[1]));
+    }
+
+    /**
+     * {@code lobby_detection: radius}: strictly within the horizontal and
+     * vertical radius of the lobby block
+     */
+    static SpawnRegion radius(Location lobby, double hRadius, double vRadius) {
+        if (lobby == null)
+            return NONE;
+        int x = lobby.getBlockX();
+        int y = lobby.getBlockY();
+        int z = lobby.getBlockZ();
+        return new Box(above(x - hRadius), below(x + hRadius), above(y - vRadius), below(y + vRadius),
+                above(z - hRadius), below(z + hRadius));
+    }
+
+    /**
+     * {@code lobby_detection: cylinder}: within the horizontal radius of the
+     * lobby block and the vertical radius of its height
+     */
+    static SpawnRegion cylinder(Location lobby, double hRadius, double vRadius) {
+        if (lobby == null)
+            return NONE;
+        int y = lobby.getBlockY();
+        return new Cylinder(lobby.getBlockX(), lobby.getBlockZ(), above(y - vRadius), below(y + vRadius),
+                hRadius * hRadius);
+    }
+
+    /**
+     * Compiles the configured detection mode; unknown modes fall back to radius
+     * like they always have
+     *
+     * @throws IllegalArgumentException if the bounds mode has malformed bounds
+     */
+    static SpawnRegion compile(String detection, Location lobby, double hRadius, double vRadius,
+                               String xBounds, String yBounds, String zBounds) {
+        String mode = detection == null ? "" : detection.toLowerCase();
+        return switch (mode) {
+            case "ycoord" -> yPlane(lobby);
+            case "bounds" -> bounds(xBounds, yBounds, zBounds);
+            case "cylinder" -> cylinder(lobby, hRadius, vRadius);
+            default -> radius(lobby, hRadius, vRadius);
+        };
+    }
+
+    private static double[] parseBounds(String key, String value) {
+        String[] parts = value == null ? new String[0] : value.split(",");
+        if (parts.length != 2)
+            throw new IllegalArgumentException("lobby." + key + " must be 'min,max', got '" + value + "'");
+        try {
+            return new double[] { Double.parseDouble(parts[0].trim()), Double.parseDouble(parts[1].trim()) };
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("lobby." + key + " must be 'min,max', got '" + value + "'");
+        }
+    }
+
+    // smallest block coordinate strictly greater than the bound
+    private static int above(double bound) {
+        return (int) Math.floor(bound) + 1;
+    }
+
+    // largest block coordinate strictly less than the bound
+    private static int below(double bound) {
+        return (int) Math.ceil(bound) - 1;
+    }
+}
@@ -1,6 +1,7 @@
 package gg.azura.bridges.ffa.gui;
 
 import gg.azura.bridges.BlockItem;
+import gg.azura.bridges.BridgePlayer;
 import gg.azura.bridges.ffa.Spawn;
 import gg.azura.bridges.utils.CC;
 import gg.azura.bridges.utils.GuiMenu;
@@ -30,9 +31,9 @@ public class SpawnMenu extends GuiMenu {
             return;
         }
         spawn.teleport(this.player);
-        if (this.blockitem != null) {
-            this.blockitem.give(this.player);
-        }
+        BridgePlayer user = this.plugin.getSM().getPlayerManager().getPlayer(this.player);
+        if (user != null)
+            this.plugin.getSM().getKitRefill().refill(user, this.blockitem);
     }
 
     @Override
@@ -4,16 +4,15 @@ import java.util.Objects;
 
 import gg.azura.bridges.BridgePlayer;
 import gg.azura.bridges.Bridges;
+import gg.azura.bridges.services.FfaConfig;
 import gg.azura.bridges.utils.CC;
 import gg.azura.bridges.utils.ItemBuilder;
-import org.bukkit.GameMode;
 import org.bukkit.GameRule;
 import org.bukkit.Material;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.PlayerDeathEvent;
-import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerRespawnEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.potion.PotionEffect;
@@ -26,37 +25,33 @@ public class DeathListener implements Listener {
         this.plugin = plugin;
     }
 
-    @EventHandler
-    public void onMove(PlayerMoveEvent event) {
-        if (!event.getPlayer().getGameMode().equals(GameMode.SURVIVAL) && !event.getPlayer().getGameMode().equals(GameMode.ADVENTURE))
-            return;
-        if (event.getTo().getY() > (this.plugin.getSM().getVariables()).deathY)
-            return;
-        BridgePlayer user = this.plugin.getSM().getPlayerManager().getPlayer(event.getPlayer());
-        if (user == null)
-            return;
-        if (!user.isInFFAWorld())
-            return;
-        event.getPlayer().damage(event.getPlayer().getMaxHealth());
-    }
-
     @EventHandler(priority = EventPriority.HIGH)
     public void onDeath(PlayerDeathEvent event) {
-        if (!(this.plugin.getSM().getVariables()).worlds.contains(event.getEntity().getLocation().getWorld()))
+        FfaConfig config = this.plugin.getSM().getVariables().getFfaConfig();
+        if (!config.isFFAWorld(event.getEntity().getWorld()))
             return;
         if (this.plugin.parseVersion() <= 16.5D || (this.plugin.parseVersion() > 16.5D && Objects.equals(event.getEntity().getWorld().getGameRuleValue(GameRule.DO_IMMEDIATE_RESPAWN), Boolean.valueOf(false))))
             event.getEntity().setHealth(event.getEntity().getMaxHealth());
-        if (event.getEntity().getKiller() != null && (this.plugin.getSM().getVariables()).healOnKill)
+        if (event.getEntity().getKiller() != null && config.healOnKill())
             event.getEntity().getKiller().setHealth(event.getEntity().getKiller().getMaxHealth());
         event.getDrops().clear();
-        event.getEntity().teleport((this.plugin.getSM().getVariables()).lobby);
+        event.getEntity().teleport(config.lobby());
         event.getEntity().getInventory().clear();
         event.getEntity().getActivePotionEffects().forEach(pe -> event.getEntity().removePotionEffect(pe.getType()));
+        BridgePlayer victim = this.plugin.getSM().getPlayerManager().getPlayer(event.getEntity());
+        if (victim != null) {
+            victim.recordDeath();
+            // The player is sent back to the lobby without necessarily respawning: this life is over
+            victim.setVoidKilled(false);
+        }
         if (event.getEntity().getKiller() != null) {
-            if ((this.plugin.getSM().getVariables()).healOnKill)
+            if (config.healOnKill())
                 event.getEntity().getKiller().setHealth(event.getEntity().getKiller().getMaxHealth());
             BridgePlayer player = this.plugin.getSM().getPlayerManager().getPlayer(event.getEntity().getKiller());
-            player.setCoins(player.getCoins() + 2);
+            if (player != null) {
+                player.recordKill();
+                this.plugin.getSM().getRewardEngine().rewardKill(player, event.getEntity().getWorld());
+            }
         }
     }
 
@@ -72,10 +67,11 @@ public class DeathListener implements Listener {
             return;
         if (!user.isInFFAWorld())
             return;
-        event.setRespawnLocation((this.plugin.getSM().getVariables()).lobby);
+        FfaConfig config = this.plugin.getSM().getVariables().getFfaConfig();
+        event.setRespawnLocation(config.lobby());
         event.getPlayer().setFoodLevel(20);
         event.getPlayer().setSaturation(0.0F);
-        if ((this.plugin.getSM().getVariables()).quickRespawn)
+        if (config.quickRespawn())
             event.getPlayer().getInventory().addItem(new ItemStack[] { QUICK_RESPAWN_ITEM });
     }
 }
@@ -20,7 +20,7 @@ public class MiscListener implements Listener {
     @EventHandler
     public void onQuickRespawn(PlayerInteractEvent event) {
         Spawn spawn;
-        if (!(this.plugin.getSM().getVariables()).quickRespawn)
+        if (!this.plugin.getSM().getVariables().getFfaConfig().quickRespawn())
             return;
         if (!event.getAction().name().contains("CLICK"))
             return;
@@ -39,7 +39,7 @@ public class MiscListener implements Listener {
         }
         if (spawn == null)
             return;
-        user.getSelectedBlockItem().give(user.getPlayer());
+        this.plugin.getSM().getKitRefill().refill(user);
         spawn.teleport(user.getPlayer());
     }
 }
@@ -23,7 +23,7 @@ public class ProtectionListener implements Listener {
 
     @EventHandler
     public void onItem(PlayerItemDamageEvent event) {
-        if (!(this.plugin.getSM().getVariables()).worlds.contains(event.getPlayer().getWorld()))
+        if (!this.plugin.getSM().getVariables().getFfaConfig().isFFAWorld(event.getPlayer().getWorld()))
             return;
         event.setCancelled(true);
     }
@@ -34,13 +34,13 @@ public class ProtectionListener implements Listener {
             return;
         if (!event.getCause().equals(EntityDamageEvent.DamageCause.FALL))
             return;
-        if ((this.plugin.getSM().getVariables()).disableFallDamage)
+        if (this.plugin.getSM().getVariables().getFfaConfig().disableFallDamage())
             event.setDamage(0.0D);
     }
 
     @EventHandler(priority = EventPriority.HIGHEST)
     public void onHunger(FoodLevelChangeEvent event) {
-        if (!(this.plugin.getSM().getVariables()).worlds.contains(event.getEntity().getWorld()))
+        if (!this.plugin.getSM().getVariables().getFfaConfig().isFFAWorld(event.getEntity().getWorld()))
             return;
         event.setFoodLevel(20);
     }
@@ -63,7 +63,7 @@ public class ProtectionListener implements Listener {
     public void onDamage(EntityDamageEvent event) {
         if (!(event.getEntity() instanceof Player))
             return;
-        if (!(this.plugin.getSM().getVariables()).worlds.contains(event.getEntity().getWorld()))
+        if (!this.plugin.getSM().getVariables().getFfaConfig().isFFAWorld(event.getEntity().getWorld()))
             return;
         BridgePlayer user = this.plugin.getSM().getPlayerManager().getPlayer((Player)event.getEntity());
         if (user == null)
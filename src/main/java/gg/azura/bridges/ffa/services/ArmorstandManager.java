@@ -33,15 +33,13 @@ public class ArmorstandManager {
                         menu.setCloseOnClick(false);
                         return;
                     }
-                    blockitem.give(player);
+                    this.plugin.getSM().getKitRefill().refill(p, blockitem);
                     if (spawn != null)
                         spawn.teleport(player);
                     p.setLastSpawn(spawn);
                 });
             } else {
-                BlockItem blockItem = this.plugin.getSM().getBlockItemsManager().getBlockItem(player);
-                if (blockItem != null)
-                    blockItem.give(player);
+                this.plugin.getSM().getKitRefill().refill(p);
                 spawn.teleport(player);
             }
             p.setLastSpawn(spawn);
@@ -57,16 +55,14 @@ public class ArmorstandManager {
                         menu.setCloseOnClick(false);
                         return;
                     }
-                    blockitem.give(player);
+                    this.plugin.getSM().getKitRefill().refill(p, blockitem);
                     if (spawn != null)
                         spawn.teleport(player);
                     p.setLastSpawn(spawn);
                 });
             } else {
-                BlockItem blockItem = p.getSelectedBlockItem();
                 spawn.teleport(player);
-                if (blockItem != null)
-                    blockItem.give(player);
+                this.plugin.getSM().getKitRefill().refill(p);
             }
             p.setLastSpawn(spawn);
         }
@@ -1,12 +1,14 @@
 package gg.azura.bridges.ffa.services;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
 import com.google.gson.JsonParser;
 import gg.azura.bridges.Bridges;
 import gg.azura.bridges.ffa.Spawn;
 import gg.azura.bridges.utils.CC;
 import gg.azura.bridges.utils.SpawnUtils;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.Plugin;
@@ -16,22 +18,25 @@ import java.io.*;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 
 public class SpawnManager {
 
     private final Bridges plugin;
 
-    private final List<Spawn> spawns;
+    // immutable, replaced as a whole
+    private volatile List<Spawn> spawns;
 
     public SpawnManager(Bridges plugin) {
-        this.spawns = new ArrayList<>();
+        this.spawns = List.of();
         this.plugin = plugin;
         (new BukkitRunnable() {
             public void run() {
                 SpawnManager.this.loadSpawns();
             }
-        }).runTaskLaterAsynchronously((Plugin) plugin, 40L);
+        }).runTaskLater((Plugin) plugin, 40L);
     }
 
     public List<Spawn> getSpawns() {
@@ -51,9 +56,10 @@ public class SpawnManager {
     }
 
     public Spawn getDefaultSpawn() {
-        if (this.spawns.isEmpty())
+        List<Spawn> spawns = this.spawns;
+        if (spawns.isEmpty())
             return null;
-        return this.spawns.get(0);
+        return spawns.get(0);
     }
 
     public void saveNewSpawn(Player player, String name) throws IOException {
@@ -73,14 +79,11 @@ public class SpawnManager {
         loadSpawn(file);
     }
 
-    public void loadSpawn(File file) {
+    public synchronized void loadSpawn(File file) {
         try {
-            String jsonText = readAll(new FileReader(file));
-            JsonObject json = (new JsonParser()).parse(jsonText).getAsJsonObject();
-            String name = json.get("name").getAsString();
-            ItemStack gui_item = SpawnUtils.jsonToGuiItem(json.get("gui_item").getAsJsonObject());
-            Location location = SpawnUtils.jsonToLocation(json.get("location").getAsJsonObject());
-            this.spawns.add(new Spawn(name, gui_item, location));
+            List<Spawn> spawns = new ArrayList<>(this.spawns);
+            spawns.add(parseSpawn(file, this.plugin.getSM().getVariables().loadedWorlds()));
+            this.spawns = List.copyOf(spawns);
         } catch (IOException ex) {
             ex.printStackTrace();
             this.plugin.getServer().getLogger().log(Level.WARNING, "");
@@ -89,17 +92,66 @@ public class SpawnManager {
         }
     }
 
+    /**
+     * Takes the loaded worlds here, then reads the spawns folder off the main
+     * thread. Main thread only.
+     */
     public void loadSpawns() {
+        Map<String, World> worlds = this.plugin.getSM().getVariables().loadedWorlds();
+        this.plugin.getServer().getScheduler().runTaskAsynchronously(this.plugin, () -> replace(parseSpawns(worlds, message -> {
+            this.plugin.getServer().getLogger().log(Level.WARNING, "");
+            this.plugin.getServer().getLogger().log(Level.WARNING, CC.t("&c" + message));
+            this.plugin.getServer().getLogger().log(Level.WARNING, "");
+        })));
+    }
+
+    /**
+     * Reads every file in the spawns folder without touching the loaded spawns
+     *
+     * @param worlds  Loaded worlds by name, taken on the main thread
+     * @param warning Receives a message for every file that was skipped
+     */
+    public List<Spawn> parseSpawns(Map<String, World> worlds, Consumer<String> warning) {
         File dir = new File(this.plugin.getDataFolder() + "/spawns");
         if (!dir.exists())
             dir.mkdirs();
         File[] files = dir.listFiles();
-        if (files.length == 0)
-            return;
+        if (files == null || files.length == 0)
+            return List.of();
         Arrays.sort((Object[])files);
+        List<Spawn> spawns = new ArrayList<>();
         for (File file : files) {
-            if (!file.isDirectory())
-                loadSpawn(file);
+            if (file.isDirectory())
+                continue;
+            try {
+                spawns.add(parseSpawn(file, worlds));
+            } catch (IOException ex) {
+                warning.accept("Unable to parse spawn " + file.getName() + ": " + ex.getMessage());
+            }
+        }
+        return List.copyOf(spawns);
+    }
+
+    /**
+     * Swaps in spawns returned by {@link #parseSpawns}
+     */
+    public synchronized void replace(List<Spawn> spawns) {
+        this.spawns = List.copyOf(spawns);
+    }
+
+    private static Spawn parseSpawn(File file, Map<String, World> worlds) throws IOException {
+        String jsonText;
+        try (Reader reader = new FileReader(file)) {
+            jsonText = readAll(reader);
+        }
+        try {
+            JsonObject json = (new JsonParser()).parse(jsonText).getAsJsonObject();
+            String name = json.get("name").getAsString();
+            ItemStack gui_item = SpawnUtils.jsonToGuiItem(json.get("gui_item").getAsJsonObject());
+            Location location = SpawnUtils.jsonToLocation(json.get("location").getAsJsonObject(), worlds);
+            return new Spawn(name, gui_item, location);
+        } catch (JsonParseException | IllegalStateException | UnsupportedOperationException | NullPointerException | IllegalArgumentException e) {
+            throw new IOException("malformed spawn json", e);
         }
     }
 
@@ -82,7 +82,7 @@ public class MessagesShopMenu extends GuiMenu {
         if (player.getUnlockedDeathMessages().contains(message)) {
             selectMessage(message);
             logMessageAction("select", id);
-        } else if (player.canAfford(message)) {
+        } else if (player.tryDebit(message.getPrice()).isPresent()) {
             unlockMessage(message, clickedItem);
             logMessageAction("unlock", id);
         } else {
@@ -118,7 +118,6 @@ public class MessagesShopMenu extends GuiMenu {
      */
     private void unlockMessage(DeathMessage message, ItemStack clickedItem) {
         player.getUnlockedDeathMessages().add(message);
-        player.setCoins(player.getCoins() - message.getPrice());
 
         player.getPlayer().sendMessage(CC.tf(
                 "&a✓ Unlocked &b%s &afor &e%d coins",
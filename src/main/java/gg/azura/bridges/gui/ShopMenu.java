@@ -320,7 +320,7 @@ public class ShopMenu extends GuiMenu {
 
     private void handleBlockPurchase(BlockItem blockItem) {
         Player p = player.getPlayer();
-        if (!player.canAfford(blockItem)) {
+        if (player.tryDebit(blockItem.getPrice()).isEmpty()) {
             p.playSound(p.getLocation(), ERROR_SOUND, 1.0F, 0.5F);
             p.sendMessage(CC.tf("&8[&c⚡&8] &cYou need &e%d &cmore coins!",
                     blockItem.getPrice() - player.getCoins()));
@@ -328,7 +328,6 @@ public class ShopMenu extends GuiMenu {
         }
 
         player.getUnlockedBlocks().add(blockItem);
-        player.setCoins(player.getCoins() - blockItem.getPrice());
         p.playSound(p.getLocation(), PURCHASE_SOUND, 1.0F, 1.0F);
         p.sendMessage(CC.tf("&8[&b⚡&8] &aUnlocked &b%s &afor &e%d coins&a!",
                 formatName(blockItem.getItem().getType().name()),
@@ -3,6 +3,9 @@ package gg.azura.bridges.listeners;
 import gg.azura.bridges.*;
 import gg.azura.bridges.events.BridgeBlockBrokenEvent;
 import gg.azura.bridges.events.BridgeBlockPlacedEvent;
+import gg.azura.bridges.events.BridgeRegionEnterEvent;
+import gg.azura.bridges.events.BridgeRegionEvent;
+import gg.azura.bridges.ffa.Region;
 import org.bukkit.GameMode;
 import org.bukkit.event.Event;
 import org.bukkit.event.EventHandler;
@@ -11,7 +14,6 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.block.BlockBreakEvent;
 import org.bukkit.event.block.BlockPlaceEvent;
 import org.bukkit.event.entity.PlayerDeathEvent;
-import org.bukkit.event.player.PlayerMoveEvent;
 
 public class GameListener implements Listener {
 
@@ -53,20 +55,13 @@ public class GameListener implements Listener {
     }
 
     @EventHandler
-    public void onMove(PlayerMoveEvent event) {
-        if (!event.getPlayer().getGameMode().equals(GameMode.SURVIVAL) && !event.getPlayer().getGameMode().equals(GameMode.ADVENTURE))
-            return;
-        if (event.getFrom().getY() >= (this.plugin.getSM().getVariables()).activateY && event.getTo().getY() < (this.plugin.getSM().getVariables()).activateY) {
-            BridgePlayer user = this.plugin.getSM().getPlayerManager().getPlayer(event.getPlayer());
-            if (user == null)
-                return;
-            if (!user.isInFFAWorld())
-                return;
-            BlockItem blockItem = this.plugin.getSM().getPlayerManager().getPlayer(event.getPlayer()).getSelectedBlockItem();
-            if (blockItem == null)
-                return;
-            blockItem.give(event.getPlayer());
-        }
+    public void onArenaEnter(BridgeRegionEnterEvent event) {
+        if (!event.getRegion().is(Region.ARENA) || event.getCause() != BridgeRegionEvent.Cause.MOVE)
+            return;
+        GameMode mode = event.getPlayer().getGameMode();
+        if (mode != GameMode.SURVIVAL && mode != GameMode.ADVENTURE)
+            return;
+        this.plugin.getSM().getKitRefill().refill(event.getUser());
     }
 
     @EventHandler(priority = EventPriority.HIGH)
@@ -75,7 +70,7 @@ public class GameListener implements Listener {
             return;
         if (event.getPlayer().getGameMode().equals(GameMode.CREATIVE))
             return;
-        if (!(this.plugin.getSM().getVariables()).worlds.contains(event.getBlock().getWorld()))
+        if (!this.plugin.getSM().getVariables().getFfaConfig().isFFAWorld(event.getBlock().getWorld()))
             return;
         BridgePlayer player = this.plugin.getSM().getPlayerManager().getPlayer(event.getPlayer());
         if (player.isInSpawn())
@@ -92,7 +87,7 @@ public class GameListener implements Listener {
             return;
         if (event.getPlayer().getGameMode().equals(GameMode.CREATIVE))
             return;
-        if (!(this.plugin.getSM().getVariables()).worlds.contains(event.getBlock().getWorld()))
+        if (!this.plugin.getSM().getVariables().getFfaConfig().isFFAWorld(event.getBlock().getWorld()))
             return;
         BridgeBlock bb = this.plugin.getSM().getBlocksManager().getBlock(event.getBlock());
         if (bb == null) {
@@ -1,6 +1,7 @@
 package gg.azura.bridges.listeners;
 
 import gg.azura.bridges.Bridges;
+import org.bukkit.Location;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
@@ -18,8 +19,9 @@ public class JoinQuitListener implements Listener {
 
     @EventHandler(priority = EventPriority.LOW)
     public void onSpawn(PlayerSpawnLocationEvent event) {
-        if ((this.plugin.getSM().getVariables()).lobby != null)
-            event.setSpawnLocation((this.plugin.getSM().getVariables()).lobby);
+        Location lobby = this.plugin.getSM().getVariables().getFfaConfig().lobby();
+        if (lobby != null)
+            event.setSpawnLocation(lobby);
     }
 
     @EventHandler
@@ -0,0 +1,208 @@
+package gg.azura.bridges.listeners;
+
+import gg.azura.bridges.BridgePlayer;
+import gg.azura.bridges.Bridges;
+import gg.azura.bridges.events.BridgeRegionEvent;
+import gg.azura.bridges.services.PlayerManager;
+import gg.azura.bridges.services.RegionManager;
+import gg.azura.bridges.utils.Positions;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.event.world.WorldLoadEvent;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The only {@link PlayerMoveEvent} handler of the plugin.
+ * <p>
+ * Most move events are head rotations or movement within one block, and
+ * every region is made of whole blocks, so an event whose from/to block
+ * coordinates are equal cannot cross an edge and is dropped after three
+ * integer comparisons. Block changes, teleports and respawns are passed to
+ * the {@link RegionManager}, which fires the region enter/leave events that
+ * features such as the block refill and the death plane subscribe to.
+ * Joins, teleports, respawns and world changes also refresh the player's
+ * cached FFA world flag.
+ * <p>
+ * An opt-in profiler measures the time and heap allocation of the handler
+ * itself; see {@link #setProfiling}. It uses thread CPU time where the JVM
+ * supports it and wall-clock time otherwise, and reports allocations only on
+ * JVMs with the {@code com.sun.management} extension.
+ */
+public class MovementDispatcher implements Listener {
+
+    private final Bridges plugin;
+    private final PlayerManager playerManager;
+    private final RegionManager regionManager;
+
+    private volatile boolean profiling;
+    private final LongAdder events = new LongAdder();
+    private final LongAdder sameBlock = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder totalBytes = new LongAdder();
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final boolean CPU_TIMING = THREADS.isCurrentThreadCpuTimeSupported()
+            && THREADS.isThreadCpuTimeEnabled();
+    // null if this JVM cannot count allocations per thread
+    private static final com.sun.management.ThreadMXBean ALLOCATIONS = allocationBean();
+
+    public MovementDispatcher(Bridges plugin) {
+        this.plugin = plugin;
+        this.playerManager = plugin.getSM().getPlayerManager();
+        this.regionManager = plugin.getSM().getRegionManager();
+    }
+
+    /**
+     * Recompiles the regions from the current configuration and moves every
+     * online player to their new region state
+     */
+    public void reload() {
+        this.regionManager.compile(this.plugin.getSM().getVariables().getFfaConfig());
+        for (BridgePlayer user : this.playerManager.getLoadedPlayers()) {
+            Player player = user.getPlayer();
+            if (player != null && player.isOnline()) {
+                user.updateWorld(player.getWorld());
+                this.regionManager.update(user, Positions.of(player), BridgeRegionEvent.Cause.RELOAD);
+            }
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onTeleport(PlayerTeleportEvent event) {
+        BridgePlayer user = this.playerManager.getPlayer(event.getPlayer().getUniqueId());
+        if (user == null || event.getTo() == null)
+            return;
+        user.updateWorld(event.getTo().getWorld());
+        this.regionManager.update(user, event.getTo(), BridgeRegionEvent.Cause.TELEPORT);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onRespawn(PlayerRespawnEvent event) {
+        BridgePlayer user = this.playerManager.getPlayer(event.getPlayer().getUniqueId());
+        if (user == null)
+            return;
+        user.setVoidKilled(false);
+        user.updateWorld(event.getRespawnLocation().getWorld());
+        this.regionManager.update(user, event.getRespawnLocation(), BridgeRegionEvent.Cause.RESPAWN);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldChange(PlayerChangedWorldEvent event) {
+        BridgePlayer user = this.playerManager.getPlayer(event.getPlayer().getUniqueId());
+        if (user != null)
+            user.updateWorld(event.getPlayer().getWorld());
+    }
+
+    @EventHandler
+    public void onWorldLoad(WorldLoadEvent event) {
+        this.plugin.getSM().getVariables().worldLoaded(event.getWorld());
+    }
+
+    @EventHandler(ignoreCancelled = true)
+    public void onMove(PlayerMoveEvent event) {
+        if (!this.profiling) {
+            dispatch(event);
+            return;
+        }
+        long bytes = allocatedBytes();
+        long start = now();
+        boolean moved = dispatch(event);
+        this.totalNanos.add(now() - start);
+        this.totalBytes.add(allocatedBytes() - bytes);
+        this.events.increment();
+        if (!moved)
+            this.sameBlock.increment();
+    }
+
+    private static long now() {
+        return CPU_TIMING ? THREADS.getCurrentThreadCpuTime() : System.nanoTime();
+    }
+
+    private static long allocatedBytes() {
+        return ALLOCATIONS != null ? ALLOCATIONS.getCurrentThreadAllocatedBytes() : 0L;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        try {
+            if (THREADS instanceof com.sun.management.ThreadMXBean bean
+                    && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled())
+                return bean;
+        } catch (LinkageError e) {
+            // No com.sun.management on this JVM
+        }
+        return null;
+    }
+
+    /**
+     * @return false if the event stayed within one block
+     */
+    private boolean dispatch(PlayerMoveEvent event) {
+        Location to = event.getTo();
+        if (to == null || Positions.sameBlock(event.getFrom(), to))
+            return false;
+        BridgePlayer user = this.playerManager.getPlayer(event.getPlayer().getUniqueId());
+        if (user != null)
+            this.regionManager.update(user, to, BridgeRegionEvent.Cause.MOVE);
+        return true;
+    }
+    public boolean isProfiling() {
+        return this.profiling;
+    }
+
+    /**
+     * Starts or stops timing move events. Starting resets the counters.
+     */
+    public void setProfiling(boolean profiling) {
+        if (profiling && !this.profiling) {
+            this.events.reset();
+            this.sameBlock.reset();
+            this.totalNanos.reset();
+            this.totalBytes.reset();
+        }
+        this.profiling = profiling;
+    }
+
+    public long getProfiledEvents() {
+        return this.events.sum();
+    }
+
+    public long getSameBlockEvents() {
+        return this.sameBlock.sum();
+    }
+
+    /**
+     * @return average heap allocated by the handler per profiled event, or -1
+     *         if the JVM does not track allocations per thread
+     */
+    public double getBytesPerEvent() {
+        if (ALLOCATIONS == null)
+            return -1.0D;
+        long count = this.events.sum();
+        return count == 0L ? 0.0D : (double) this.totalBytes.sum() / count;
+    }
+
+    /**
+     * @return true if {@link #getNanosPerEvent} is thread CPU time, false if wall-clock time
+     */
+    public boolean isCpuTimed() {
+        return CPU_TIMING;
+    }
+
+    /**
+     * @return average handler time per profiled event, in nanoseconds
+     */
+    public double getNanosPerEvent() {
+        long count = this.events.sum();
+        return count == 0L ? 0.0D : (double) this.totalNanos.sum() / count;
+    }
+}
@@ -0,0 +1,244 @@
+package gg.azura.bridges.services;
+
+import gg.azura.bridges.Bridges;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Periodic balance snapshots over the coin ledger, and a background verifier.
+ * <p>
+ * The ledger is the source of truth: a snapshot records a player's balance as
+ * of a ledger id (its high-water mark), so the balance at any later point is
+ * the latest snapshot at or before it plus the signed sum of the newer ledger
+ * entries. A player's first snapshot is taken from {@code coins} together with
+ * the newest ledger id in one statement, which also absorbs balances that
+ * predate the ledger. Later snapshots roll the latest one forward in
+ * uuid-keyed chunks, resuming where the previous run stopped, so one run never
+ * scans the whole snapshot table.
+ * <p>
+ * The verifier walks players round-robin, a few per run, rebuilding each
+ * balance and comparing it with {@code coins}. Runs are skipped while the
+ * database is unhealthy, and the check reads from the replica when one is
+ * available, so auditing never competes with gameplay writes.
+ */
+public class BalanceSnapshots {
+
+    private static final int GENESIS_CHUNK = 500;
+    private static final int MAX_GENESIS_CHUNKS = 10;
+    private static final int ROLL_FORWARD_CHUNK = 500;
+    private static final int MAX_ROLL_FORWARD_CHUNKS = 10;
+
+    // Same sign convention as the ledger group commit's balance update
+    private static final String SIGNED_AMOUNT = "CASE WHEN t.type = 'SPEND' THEN -t.amount ELSE t.amount END";
+
+    private static final String GENESIS = """
+            INSERT IGNORE INTO bridgeffa_balance_snapshots (uuid, ledger_id, balance, created_at)
+            SELECT p.uuid,
+                   COALESCE((SELECT MAX(t.id) FROM transactions t WHERE t.player_id = p.uuid), 0),
+                   p.coins, ?
+            FROM bridgeffa_players p
+            WHERE NOT EXISTS (SELECT 1 FROM bridgeffa_balance_snapshots s WHERE s.uuid = p.uuid)
+            LIMIT ?
+            """;
+
+    private static final String ROLL_FORWARD = """
+            INSERT IGNORE INTO bridgeffa_balance_snapshots (uuid, ledger_id, balance, created_at)
+            SELECT s.uuid, MAX(t.id), s.balance + SUM(%s), ?
+            FROM bridgeffa_balance_snapshots s
+            JOIN (SELECT uuid, MAX(ledger_id) AS ledger_id FROM bridgeffa_balance_snapshots
+                  WHERE uuid > ? AND uuid <= ?
+                  GROUP BY uuid) latest
+                ON latest.uuid = s.uuid AND latest.ledger_id = s.ledger_id
+            JOIN transactions t ON t.player_id = s.uuid AND t.id > s.ledger_id AND t.applied = 1
+            GROUP BY s.uuid, s.balance
+            """.formatted(SIGNED_AMOUNT);
+
+    // Never removes a player's latest snapshot, however old
+    private static final String PRUNE = """
+            DELETE s FROM bridgeffa_balance_snapshots s
+            JOIN (SELECT uuid, MAX(ledger_id) AS ledger_id FROM bridgeffa_balance_snapshots GROUP BY uuid) latest
+                ON latest.uuid = s.uuid
+            WHERE s.ledger_id < latest.ledger_id AND s.created_at < ?
+            """;
+
+    private static final String REBUILD = """
+            SELECT s.balance + COALESCE((
+                SELECT SUM(%s) FROM transactions t
+                WHERE t.player_id = s.uuid AND t.id > s.ledger_id AND t.id <= ? AND t.applied = 1
+            ), 0) AS rebuilt
+            FROM bridgeffa_balance_snapshots s
+            WHERE s.uuid = ? AND s.ledger_id <= ?
+            ORDER BY s.ledger_id DESC
+            LIMIT 1
+            """.formatted(SIGNED_AMOUNT);
+
+    // coins and the rebuilt balance come from one statement, so they describe the same commit
+    private static final String VERIFY = """
+            SELECT p.coins, s.balance + COALESCE((
+                SELECT SUM(%s) FROM transactions t
+                WHERE t.player_id = s.uuid AND t.id > s.ledger_id AND t.applied = 1
+            ), 0) AS rebuilt
+            FROM bridgeffa_balance_snapshots s
+            JOIN bridgeffa_players p ON p.uuid = s.uuid
+            WHERE s.uuid = ?
+            ORDER BY s.ledger_id DESC
+            LIMIT 1
+            """.formatted(SIGNED_AMOUNT);
+
+    // Keyset page over the players that have a snapshot, shared by roll forward and the verifier
+    private static final String SNAPSHOT_KEYS = """
+            SELECT DISTINCT uuid FROM bridgeffa_balance_snapshots
+            WHERE uuid > ?
+            ORDER BY uuid
+            LIMIT ?
+            """;
+
+    private final Bridges plugin;
+    private final DatabaseManager db;
+    private final long retentionMillis;
+    private final int sampleSize;
+    private final ScheduledExecutorService executor;
+
+    private final LongAdder snapshotsWritten = new LongAdder();
+    private final LongAdder verified = new LongAdder();
+    private final LongAdder mismatches = new LongAdder();
+    private volatile long lastSnapshotAt;
+    private String verifyCursor = "";
+    private String rollForwardCursor = "";
+
+    private record Check(long coins, double rebuilt) {
+    }
+
+    public BalanceSnapshots(Bridges plugin, DatabaseManager db, Variables variables) {
+        this.plugin = plugin;
+        this.db = db;
+        this.retentionMillis = TimeUnit.DAYS.toMillis(variables.snapshotRetentionDays);
+        this.sampleSize = variables.verifySampleSize;
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "Ledger-Audit");
+            t.setDaemon(true);
+            return t;
+        });
+        this.executor.scheduleWithFixedDelay(this::snapshot,
+                1L, variables.snapshotIntervalMinutes, TimeUnit.MINUTES);
+        if (this.sampleSize > 0) {
+            this.executor.scheduleWithFixedDelay(this::verify,
+                    variables.verifyIntervalSeconds, variables.verifyIntervalSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Rebuilds a player's balance as of a ledger id from the latest snapshot at
+     * or before it
+     *
+     * @param ledgerId Highest ledger id to include, or {@link Long#MAX_VALUE} for the current balance
+     * @return the balance, or empty if the player has no snapshot that old
+     */
+    public OptionalLong rebuild(UUID playerId, long ledgerId) throws SQLException {
+        Double rebuilt = db.queryFirst("snapshot.rebuild", REBUILD, rs -> rs.getDouble("rebuilt"),
+                ledgerId, playerId.toString(), ledgerId);
+        return rebuilt == null ? OptionalLong.empty() : OptionalLong.of(Math.round(rebuilt));
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public long getSnapshotsWritten() {
+        return snapshotsWritten.sum();
+    }
+
+    public long getVerified() {
+        return verified.sum();
+    }
+
+    public long getMismatches() {
+        return mismatches.sum();
+    }
+
+    public long getLastSnapshotAt() {
+        return lastSnapshotAt;
+    }
+
+    private boolean isHealthy() {
+        return db.getCircuitBreaker().getState() == CircuitBreaker.State.CLOSED
+                && db.getJournal().getBacklog() == 0;
+    }
+
+    private void snapshot() {
+        if (!isHealthy()) {
+            return;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            int written = 0;
+            for (int chunk = 0; chunk < MAX_GENESIS_CHUNKS; chunk++) {
+                int rows = db.update("snapshot.genesis", GENESIS, now, GENESIS_CHUNK);
+                written += rows;
+                if (rows < GENESIS_CHUNK) {
+                    break;
+                }
+            }
+            for (int chunk = 0; chunk < MAX_ROLL_FORWARD_CHUNKS; chunk++) {
+                List<String> keys = db.query("snapshot.roll_forward_keys", SNAPSHOT_KEYS, rs -> rs.getString("uuid"),
+                        rollForwardCursor, ROLL_FORWARD_CHUNK);
+                if (keys.isEmpty()) {
+                    rollForwardCursor = "";
+                    break;
+                }
+                String last = keys.get(keys.size() - 1);
+                written += db.update("snapshot.roll_forward", ROLL_FORWARD, now, rollForwardCursor, last);
+                if (keys.size() < ROLL_FORWARD_CHUNK) {
+                    rollForwardCursor = "";
+                    break;
+                }
+                rollForwardCursor = last;
+            }
+            int pruned = db.update("snapshot.prune", PRUNE, now - retentionMillis);
+
+            snapshotsWritten.add(written);
+            lastSnapshotAt = now;
+            if (written > 0 || pruned > 0) {
+                plugin.getLogger().info("[LEDGER] Wrote " + written + " balance snapshots, pruned " + pruned);
+            }
+        } catch (SQLException e) {
+            plugin.getLogger().warning("[LEDGER] Balance snapshot failed: " + e.getMessage());
+        }
+    }
+
+    private void verify() {
+        if (!isHealthy()) {
+            return;
+        }
+        try {
+            List<String> sample = db.readQuery("snapshot.sample", SNAPSHOT_KEYS, rs -> rs.getString("uuid"),
+                    verifyCursor, sampleSize);
+            verifyCursor = sample.size() < sampleSize ? "" : sample.get(sample.size() - 1);
+
+            for (String uuid : sample) {
+                Check check = db.readQueryFirst("snapshot.verify", VERIFY,
+                        rs -> new Check(rs.getLong("coins"), rs.getDouble("rebuilt")), uuid);
+                if (check == null) {
+                    continue;
+                }
+                verified.increment();
+                long rebuilt = Math.round(check.rebuilt());
+                if (rebuilt != check.coins()) {
+                    mismatches.increment();
+                    plugin.getLogger().warning(String.format(
+                            "[LEDGER] Balance mismatch for %s: coins=%d, ledger=%d (%+d)",
+                            uuid, check.coins(), rebuilt, check.coins() - rebuilt));
+                }
+            }
+        } catch (SQLException e) {
+            plugin.getLogger().fine("[LEDGER] Balance verification skipped: " + e.getMessage());
+        }
+    }
+}
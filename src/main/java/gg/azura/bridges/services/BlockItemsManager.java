@@ -3,13 +3,14 @@ package gg.azura.bridges.services;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
 import com.google.gson.JsonParser;
 import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
 
@@ -23,13 +24,13 @@ import org.bukkit.entity.Player;
 public class BlockItemsManager {
 
     private final Bridges plugin;
-    private final List<BlockItem> blockItems;
+    // immutable, replaced as a whole
+    private volatile List<BlockItem> blockItems = List.of();
     private final File configFile;
     private final Gson gson;
 
     public BlockItemsManager(Bridges plugin) {
         this.plugin = plugin;
-        this.blockItems = new CopyOnWriteArrayList<>();
         this.configFile = new File(plugin.getDataFolder(), "blocks.json");
         this.gson = new GsonBuilder().setPrettyPrinting().create();
         loadBlockItems();
@@ -123,7 +124,9 @@ public class BlockItemsManager {
                 gson.toJson(json, writer);
             }
 
-            blockItems.add(new BlockItem(material, price, material.name(), "Default Description"));
+            List<BlockItem> items = new ArrayList<>(blockItems);
+            items.add(new BlockItem(material, price, material.name(), "Default Description"));
+            blockItems = List.copyOf(items);
             plugin.getLogger().info("Successfully saved new block item: " + material.name());
         } catch (IOException e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to save block item: " + material.name(), e);
@@ -146,17 +149,53 @@ public class BlockItemsManager {
         }
     }
 
+    /**
+     * Reads blocks.json without touching the loaded items
+     *
+     * @param warning Receives a message for every entry that was skipped
+     * @throws IOException if the file cannot be read or is not a JSON object
+     */
+    public List<BlockItem> parse(Consumer<String> warning) throws IOException {
+        if (!configFile.exists())
+            return List.of();
+        JsonObject json;
+        try {
+            json = JsonParser.parseString(readFileContent(configFile)).getAsJsonObject();
+        } catch (JsonParseException | IllegalStateException e) {
+            throw new IOException("blocks.json is not a JSON object: " + e.getMessage(), e);
+        }
+        List<BlockItem> list = new ArrayList<>();
+        for (String materialName : json.keySet()) {
+            Material material = Material.getMaterial(materialName.toUpperCase().trim());
+            if (material == null) {
+                warning.accept("Invalid material name in blocks.json: " + materialName);
+                continue;
+            }
+            try {
+                list.add(new BlockItem(material, json.get(materialName).getAsInt(), materialName, "Default Description"));
+            } catch (RuntimeException e) {
+                warning.accept("Invalid price for " + materialName + " in blocks.json");
+            }
+        }
+        return List.copyOf(list);
+    }
+
+    /**
+     * Swaps in items returned by {@link #parse}
+     */
+    public synchronized void replace(List<BlockItem> items) {
+        blockItems = List.copyOf(items);
+    }
+
     public void loadBlockItems() {
-        blockItems.clear();
         try {
             if (!configFile.exists()) {
                 plugin.getLogger().info("No blocks.json found, creating empty configuration");
                 return;
             }
 
-            String jsonText = readFileContent(configFile);
-            List<BlockItem> loadedItems = fromJson(jsonText);
-            blockItems.addAll(loadedItems);
+            List<BlockItem> loadedItems = parse(plugin.getLogger()::warning);
+            replace(loadedItems);
             plugin.getLogger().info("Successfully loaded " + loadedItems.size() + " block items");
         } catch (Exception e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to load block items", e);
@@ -181,11 +220,13 @@ public class BlockItemsManager {
         loadBlockItems();
     }
 
-    public boolean removeBlockItem(Material material) {
+    public synchronized boolean removeBlockItem(Material material) {
         if (material == null) return false;
 
-        boolean removed = blockItems.removeIf(item -> item.getItem().getType() == material);
+        List<BlockItem> items = new ArrayList<>(blockItems);
+        boolean removed = items.removeIf(item -> item.getItem().getType() == material);
         if (removed) {
+            blockItems = List.copyOf(items);
             saveBlockItems();
         }
         return removed;
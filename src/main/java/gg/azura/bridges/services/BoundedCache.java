@@ -0,0 +1,301 @@
+package gg.azura.bridges.services;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Size-bounded cache with segmented LRU eviction, expire-after-write and
+ * optional refresh-ahead.
+ * <p>
+ * New entries enter a probation segment; an entry read again while on
+ * probation is promoted to the protected segment (80% of the capacity), whose
+ * least recently used entry is demoted back to probation when it overflows.
+ * Eviction always takes the least recently used probation entry, so a burst of
+ * one-off lookups cannot flush the entries that are read repeatedly.
+ * <p>
+ * Expired entries are treated as misses by {@link #get}, but stay readable
+ * through {@link #getStale} until they are evicted or overwritten, so callers
+ * can still serve old data while the database is down.
+ * <p>
+ * Caches built with a name are listed by {@link #registered()} for diagnostics.
+ */
+public class BoundedCache<K, V> {
+
+    private static final Map<String, BoundedCache<?, ?>> REGISTRY = new ConcurrentSkipListMap<>();
+    private static final float PROTECTED_RATIO = 0.8F;
+
+    private final String name;
+    private final int maximumSize;
+    private final int protectedSize;
+    private final long expireAfterWriteNanos;
+    private final long refreshAfterWriteNanos;
+    private final Function<K, V> refreshLoader;
+    private final Executor refreshExecutor;
+
+    private final LinkedHashMap<K, Node<V>> probation;
+    private final LinkedHashMap<K, Node<V>> protectedSegment;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+
+    private static final class Node<V> {
+        private V value;
+        private long writtenAt;
+        private boolean refreshing;
+        private boolean expired;
+
+        private Node(V value) {
+            this.value = value;
+            this.writtenAt = System.nanoTime();
+        }
+    }
+
+    /**
+     * Hit/miss/eviction counters of a cache at one point in time
+     */
+    public record Stats(String name, int size, int maximumSize, long hits, long misses,
+                        long evictions, long expirations, long refreshes) {
+        public double hitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 0.0D : (double) hits / requests;
+        }
+    }
+
+    private BoundedCache(Builder<K, V> builder) {
+        this.name = builder.name;
+        this.maximumSize = builder.maximumSize;
+        this.protectedSize = Math.max(1, (int) (builder.maximumSize * PROTECTED_RATIO));
+        this.expireAfterWriteNanos = builder.expireAfterWriteNanos;
+        this.refreshAfterWriteNanos = builder.refreshAfterWriteNanos;
+        this.refreshLoader = builder.refreshLoader;
+        this.refreshExecutor = builder.refreshExecutor;
+        this.probation = new LinkedHashMap<>(16, 0.75F, true);
+        this.protectedSegment = new LinkedHashMap<>(16, 0.75F, true);
+    }
+
+    public static <K, V> Builder<K, V> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * @return every named cache, ordered by name
+     */
+    public static Collection<BoundedCache<?, ?>> registered() {
+        return List.copyOf(REGISTRY.values());
+    }
+
+    /**
+     * @return the live value, or null if absent or expired
+     */
+    public V get(K key) {
+        Node<V> node;
+        boolean refresh;
+        synchronized (this) {
+            node = touch(key);
+            if (node == null) {
+                misses.increment();
+                return null;
+            }
+            long age = System.nanoTime() - node.writtenAt;
+            if (expireAfterWriteNanos > 0L && age > expireAfterWriteNanos) {
+                if (!node.expired) {
+                    node.expired = true;
+                    expirations.increment();
+                }
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            refresh = refreshLoader != null && !node.refreshing && age > refreshAfterWriteNanos;
+            if (refresh) {
+                node.refreshing = true;
+            }
+        }
+        if (refresh) {
+            refresh(key);
+        }
+        return node.value;
+    }
+
+    /**
+     * Returns the live value, loading and caching it on a miss. Concurrent
+     * misses for the same key may each run the loader.
+     */
+    public V get(K key, Function<K, V> loader) {
+        V value = get(key);
+        if (value == null) {
+            value = loader.apply(key);
+            if (value != null) {
+                put(key, value);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * @return the cached value even if it has expired, or null if absent
+     */
+    public synchronized V getStale(K key) {
+        Node<V> node = protectedSegment.get(key);
+        if (node == null) {
+            node = probation.get(key);
+        }
+        return node == null ? null : node.value;
+    }
+
+    public synchronized void put(K key, V value) {
+        Node<V> node = protectedSegment.get(key);
+        if (node == null) {
+            node = probation.get(key);
+        }
+        if (node != null) {
+            node.value = value;
+            node.writtenAt = System.nanoTime();
+            node.refreshing = false;
+            node.expired = false;
+            return;
+        }
+
+        probation.put(key, new Node<>(value));
+        while (probation.size() + protectedSegment.size() > maximumSize) {
+            LinkedHashMap<K, Node<V>> victims = probation.isEmpty() ? protectedSegment : probation;
+            Iterator<K> eldest = victims.keySet().iterator();
+            eldest.next();
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    public synchronized void invalidate(K key) {
+        if (protectedSegment.remove(key) == null) {
+            probation.remove(key);
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        probation.clear();
+        protectedSegment.clear();
+    }
+
+    public synchronized int size() {
+        return probation.size() + protectedSegment.size();
+    }
+
+    public Stats stats() {
+        return new Stats(name, size(), maximumSize, hits.sum(), misses.sum(),
+                evictions.sum(), expirations.sum(), refreshes.sum());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Finds an entry and records the access, promoting it out of probation
+     */
+    private Node<V> touch(K key) {
+        Node<V> node = protectedSegment.get(key);
+        if (node != null) {
+            return node;
+        }
+        node = probation.remove(key);
+        if (node == null) {
+            return null;
+        }
+        protectedSegment.put(key, node);
+        if (protectedSegment.size() > protectedSize) {
+            Iterator<Map.Entry<K, Node<V>>> eldest = protectedSegment.entrySet().iterator();
+            Map.Entry<K, Node<V>> demoted = eldest.next();
+            eldest.remove();
+            probation.put(demoted.getKey(), demoted.getValue());
+        }
+        return node;
+    }
+
+    private void refresh(K key) {
+        refreshExecutor.execute(() -> {
+            try {
+                V value = refreshLoader.apply(key);
+                if (value != null) {
+                    put(key, value);
+                    refreshes.increment();
+                    return;
+                }
+            } catch (RuntimeException ignored) {
+                // Keep serving the current value until it expires
+            }
+            synchronized (this) {
+                Node<V> node = protectedSegment.get(key);
+                if (node == null) {
+                    node = probation.get(key);
+                }
+                if (node != null) {
+                    node.refreshing = false;
+                }
+            }
+        });
+    }
+
+    public static final class Builder<K, V> {
+        private String name;
+        private int maximumSize = 1024;
+        private long expireAfterWriteNanos;
+        private long refreshAfterWriteNanos;
+        private Function<K, V> refreshLoader;
+        private Executor refreshExecutor;
+
+        private Builder() {
+        }
+
+        /**
+         * Names the cache and lists it in {@link #registered()}
+         */
+        public Builder<K, V> name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        public Builder<K, V> maximumSize(int maximumSize) {
+            if (maximumSize < 1) {
+                throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        public Builder<K, V> expireAfterWrite(long duration, TimeUnit unit) {
+            this.expireAfterWriteNanos = unit.toNanos(duration);
+            return this;
+        }
+
+        /**
+         * Reloads an entry in the background once it is read after being older
+         * than {@code duration}; the current value is served meanwhile
+         */
+        public Builder<K, V> refreshAfterWrite(long duration, TimeUnit unit, Function<K, V> loader, Executor executor) {
+            this.refreshAfterWriteNanos = unit.toNanos(duration);
+            this.refreshLoader = loader;
+            this.refreshExecutor = executor;
+            return this;
+        }
+
+        public BoundedCache<K, V> build() {
+            BoundedCache<K, V> cache = new BoundedCache<>(this);
+            if (name != null) {
+                REGISTRY.put(name, cache);
+            }
+            return cache;
+        }
+    }
+}
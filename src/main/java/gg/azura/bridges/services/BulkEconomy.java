@@ -0,0 +1,218 @@
+package gg.azura.bridges.services;
+
+import gg.azura.bridges.BridgePlayer;
+import gg.azura.bridges.Bridges;
+import gg.azura.bridges.Transaction;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Coin operations applied to every stored player at once: grants, season
+ * resets and multipliers.
+ * <p>
+ * Loaded profiles are updated through their atomic in-memory balance, which
+ * queues a normal ledger entry. Everyone else is processed in keyset chunks of
+ * {@value #CHUNK_SIZE} players, each one transaction: a set-based insert of one
+ * {@code ADJUST} ledger row per player, with the delta computed from
+ * {@code coins} inside the statement, followed by the ledger writer's own
+ * rollup, balance and mark-applied statements. Ledger op ids are derived from
+ * the operation id and the player uuid, so a chunk that is journaled and
+ * replayed applies exactly once.
+ * <p>
+ * Each chunk binds the exact uuids it read, so a player row created after the
+ * read is left for a later chunk rather than given an unapplied ledger row.
+ * A profile that gets loaded while its chunk is written rebases its in-memory
+ * balance on the stored one once the chunk has committed.
+ */
+public class BulkEconomy {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private static final String CHUNK_QUERY = """
+            SELECT uuid FROM bridgeffa_players
+            WHERE uuid > ?
+            ORDER BY uuid
+            LIMIT ?
+            """;
+
+    // op_id is MD5(operation id + uuid) laid out as a uuid, matching opId()
+    private static final String LEDGER_INSERT = """
+            INSERT IGNORE INTO transactions (op_id, player_id, type, amount, timestamp, applied)
+            SELECT CONCAT_WS('-', SUBSTR(h, 1, 8), SUBSTR(h, 9, 4), SUBSTR(h, 13, 4), SUBSTR(h, 17, 4), SUBSTR(h, 21, 12)),
+                   uuid, 'ADJUST', delta, ?, 0
+            FROM (
+                SELECT p.uuid, MD5(CONCAT(?, p.uuid)) AS h, %s AS delta
+                FROM bridgeffa_players p
+                WHERE p.uuid IN (%s)
+            ) AS chunk
+            WHERE delta <> 0
+            """;
+
+    public enum Kind {
+        GRANT("?"),
+        RESET("? - p.coins"),
+        // FLOOR(x + 0.5) rounds like Math.round, unlike ROUND() on doubles
+        MULTIPLY("FLOOR(p.coins * ? + 0.5) - p.coins");
+
+        private final String deltaSql;
+
+        Kind(String deltaSql) {
+            this.deltaSql = deltaSql;
+        }
+    }
+
+    /**
+     * One bulk change; {@code value} is the amount granted, the balance reset
+     * to, or the multiplier
+     */
+    public record Operation(Kind kind, double value) {
+        long apply(long balance) {
+            return switch (kind) {
+                case GRANT -> balance + (long) value;
+                case RESET -> (long) value;
+                case MULTIPLY -> Math.round(balance * value);
+            };
+        }
+
+        Object sqlValue() {
+            return kind == Kind.MULTIPLY ? value : (Object) (long) value;
+        }
+    }
+
+    public record Progress(Operation operation, int processed, int total, boolean done) {
+        public double percent() {
+            return total == 0 ? 100.0D : Math.min(100.0D, processed * 100.0D / total);
+        }
+    }
+
+    private final Bridges plugin;
+    private final DatabaseManager db;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public BulkEconomy(Bridges plugin, DatabaseManager db) {
+        this.plugin = plugin;
+        this.db = db;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /**
+     * Runs an operation on the database IO executor
+     *
+     * @param progress Called from the IO thread after every chunk and once when done
+     * @return future completed with the number of players processed, or
+     *         failed if another operation is running or a chunk cannot be read
+     */
+    public CompletableFuture<Integer> run(Operation operation, Consumer<Progress> progress) {
+        if (!running.compareAndSet(false, true)) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Another economy operation is running"));
+        }
+        CompletableFuture<Integer> result = CompletableFuture.supplyAsync(() -> {
+            try {
+                return execute(operation, progress);
+            } catch (SQLException e) {
+                throw new IllegalStateException("Economy operation failed: " + e.getMessage(), e);
+            }
+        }, db.getIoExecutor());
+        result.whenComplete((processed, error) -> running.set(false));
+        return result;
+    }
+
+    private int execute(Operation operation, Consumer<Progress> progress) throws SQLException {
+        String opKey = UUID.randomUUID().toString();
+        long timestamp = System.currentTimeMillis();
+        Integer stored = db.queryFirst("eco.count", "SELECT COUNT(*) AS total FROM bridgeffa_players",
+                rs -> rs.getInt("total"));
+        int total = stored == null ? 0 : stored;
+
+        // Loaded profiles keep their balance in memory; change it there so it is never overwritten
+        Set<String> loaded = new HashSet<>();
+        for (BridgePlayer player : plugin.getSM().getPlayerManager().getLoadedPlayers()) {
+            player.adjustCoins(operation::apply);
+            loaded.add(player.getUUID().toString());
+        }
+        int processed = 0;
+
+        String cursor = "";
+        while (true) {
+            List<String> chunk = db.query("eco.chunk", CHUNK_QUERY, rs -> rs.getString("uuid"), cursor, CHUNK_SIZE);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            cursor = chunk.get(chunk.size() - 1);
+
+            List<String> targets = chunk.stream().filter(uuid -> !loaded.contains(uuid)).collect(Collectors.toList());
+            if (!targets.isEmpty()) {
+                db.writeAtomic("eco." + operation.kind().name().toLowerCase(),
+                        chunkWrites(operation, opKey, timestamp, targets));
+                for (String uuid : targets) {
+                    invalidate(UUID.fromString(uuid));
+                    // Loaded (or joined) while the chunk was written: the load may have read the old coins
+                    BridgePlayer joined = plugin.getSM().getPlayerManager().getPlayer(UUID.fromString(uuid));
+                    if (joined != null) {
+                        joined.rebaseBalance();
+                    }
+                }
+            }
+
+            processed += chunk.size();
+            progress.accept(new Progress(operation, processed, Math.max(total, processed), false));
+        }
+
+        plugin.getLogger().info(String.format("[ECONOMY] %s %s applied to %d players (%d loaded in memory)",
+                operation.kind(), operation.value(), processed, loaded.size()));
+        progress.accept(new Progress(operation, processed, Math.max(total, processed), true));
+        return processed;
+    }
+
+    private static List<SqlWrite> chunkWrites(Operation operation, String opKey, long timestamp, List<String> uuids) {
+        String inList = String.join(", ", Collections.nCopies(uuids.size(), "?"));
+        List<Object> params = new ArrayList<>();
+        params.add(timestamp);
+        params.add(opKey);
+        params.add(operation.sqlValue());
+        params.addAll(uuids);
+        Object[] opIds = uuids.stream().map(uuid -> opId(opKey, uuid)).toArray();
+
+        List<SqlWrite> writes = new ArrayList<>(4);
+        writes.add(SqlWrite.of(LEDGER_INSERT.formatted(operation.kind().deltaSql, inList), params.toArray()));
+        writes.addAll(LedgerWriter.applyWrites(opIds));
+        return writes;
+    }
+
+    private void invalidate(UUID uuid) {
+        plugin.getSM().getPlayerManager().invalidate(uuid);
+        plugin.getSM().getTransactionView().invalidate(uuid);
+        Transaction.evictCache(uuid);
+    }
+
+    /**
+     * @return MD5 of {@code opKey + uuid} in uuid layout, as computed by {@link #LEDGER_INSERT}
+     */
+    static String opId(String opKey, String uuid) {
+        try {
+            String hex = HexFormat.of().formatHex(MessageDigest.getInstance("MD5")
+                    .digest((opKey + uuid).getBytes(StandardCharsets.UTF_8)));
+            return String.join("-", hex.substring(0, 8), hex.substring(8, 12), hex.substring(12, 16),
+                    hex.substring(16, 20), hex.substring(20));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 is not available", e);
+        }
+    }
+}
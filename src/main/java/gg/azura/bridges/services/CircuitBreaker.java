@@ -0,0 +1,92 @@
+package gg.azura.bridges.services;
+
+/**
+ * Circuit breaker guarding the storage layer.
+ * <p>
+ * After {@code failureThreshold} consecutive failures the breaker opens and
+ * rejects calls for {@code openMillis}. It then lets a single probe through
+ * (half-open); a successful probe closes it again, a failed one re-opens it.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openMillis;
+
+    private State state;
+    private int consecutiveFailures;
+    private long openedAt;
+    private long totalFailures;
+    private long totalRejected;
+
+    public CircuitBreaker(int failureThreshold, long openMillis) {
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+        this.state = State.CLOSED;
+    }
+
+    /**
+     * @return true if the caller may hit the database right now
+     */
+    public synchronized boolean allowRequest() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.OPEN && System.currentTimeMillis() - openedAt >= openMillis) {
+            // Let exactly one probe through
+            state = State.HALF_OPEN;
+            return true;
+        }
+        totalRejected++;
+        return false;
+    }
+
+    public synchronized void recordSuccess() {
+        consecutiveFailures = 0;
+        state = State.CLOSED;
+    }
+
+    public synchronized void recordFailure() {
+        totalFailures++;
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized boolean isOpen() {
+        return state != State.CLOSED;
+    }
+
+    public synchronized int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    public synchronized long getTotalFailures() {
+        return totalFailures;
+    }
+
+    public synchronized long getTotalRejected() {
+        return totalRejected;
+    }
+
+    /**
+     * @return milliseconds until the next probe is allowed, 0 if not open
+     */
+    public synchronized long getRetryInMillis() {
+        if (state != State.OPEN) {
+            return 0L;
+        }
+        return Math.max(0L, openMillis - (System.currentTimeMillis() - openedAt));
+    }
+}
@@ -0,0 +1,392 @@
+package gg.azura.bridges.services;
+
+import gg.azura.bridges.BlockItem;
+import gg.azura.bridges.BridgePlayer;
+import gg.azura.bridges.Bridges;
+import gg.azura.bridges.DeathMessage;
+import gg.azura.bridges.ServicesManager;
+import gg.azura.bridges.ffa.Spawn;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Reloads config.yml, blocks.json, deathmessages.json and the spawns folder
+ * without a restart.
+ * <p>
+ * A reload captures the loaded worlds on the main thread, then reads, parses
+ * and validates the requested sections on a background thread into new
+ * immutable snapshots. Back on the main thread, each section that parsed is
+ * diffed against the live one and swapped in with a single reference write,
+ * followed by the recompiles that depend on it. A section that fails to parse
+ * keeps its current snapshot.
+ * <p>
+ * Optionally a {@link WatchService} triggers the same reload when one of the
+ * files changes. Settings read once at startup (connection, ledger, audit)
+ * still need a restart.
+ */
+public class ConfigReloader {
+
+    private static final long DEBOUNCE_MILLIS = 500L;
+
+    public enum Section {
+        CONFIG("config.yml"),
+        BLOCKS("blocks.json"),
+        DEATHMESSAGES("deathmessages.json"),
+        SPAWNS("spawns/*.json");
+
+        private final String file;
+
+        Section(String file) {
+            this.file = file;
+        }
+
+        public String getFile() {
+            return this.file;
+        }
+
+        public String getName() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        public static Section byName(String name) {
+            for (Section section : values()) {
+                if (section.getName().equalsIgnoreCase(name))
+                    return section;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Outcome of a reload
+     *
+     * @param changes  One line per changed setting or entry
+     * @param warnings Entries that were skipped or replaced
+     * @param errors   Sections that failed to parse and were left as they were
+     */
+    public record Result(Set<Section> sections, List<String> changes, List<String> warnings, List<String> errors) {
+    }
+
+    // parsed off-thread; a null section failed or was not requested
+    private record Snapshot(String configText, FfaConfig config, List<BlockItem> blocks,
+                            List<DeathMessage> deathMessages, List<Spawn> spawns) {
+    }
+
+    private final Bridges plugin;
+    private final File configFile;
+    private final File spawnsFolder;
+    private final ExecutorService executor;
+    private final Executor mainThread;
+
+    // main thread only
+    private boolean running;
+    private final Set<Section> pending = EnumSet.noneOf(Section.class);
+
+    private volatile WatchService watchService;
+
+    public ConfigReloader(Bridges plugin) {
+        this.plugin = plugin;
+        this.configFile = new File(plugin.getDataFolder(), "config.yml");
+        this.spawnsFolder = new File(plugin.getDataFolder(), "spawns");
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "Config-Reload");
+            t.setDaemon(true);
+            return t;
+        });
+        this.mainThread = task -> plugin.getServer().getScheduler().runTask(plugin, task);
+    }
+
+    /**
+     * Reloads the given sections. Main thread only.
+     *
+     * @return the result, completed on the main thread once the new snapshots
+     *         are live; fails with {@link IllegalStateException} if a reload
+     *         is already running
+     */
+    public CompletableFuture<Result> reload(Set<Section> sections) {
+        if (this.running)
+            return CompletableFuture.failedFuture(new IllegalStateException("A reload is already running"));
+        this.running = true;
+        Set<Section> requested = EnumSet.copyOf(sections);
+        Map<String, World> worlds = this.plugin.getSM().getVariables().loadedWorlds();
+        List<String> warnings = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        return CompletableFuture.<Snapshot>supplyAsync(() -> parse(requested, worlds, warnings, errors), this.executor)
+                .thenApplyAsync(snapshot -> swap(requested, snapshot, warnings, errors), this.mainThread)
+                .whenCompleteAsync((result, error) -> {
+                    this.running = false;
+                    if (!this.pending.isEmpty()) {
+                        Set<Section> next = EnumSet.copyOf(this.pending);
+                        this.pending.clear();
+                        reloadAndLog(next);
+                    }
+                }, this.mainThread);
+    }
+
+    private Snapshot parse(Set<Section> sections, Map<String, World> worlds, List<String> warnings, List<String> errors) {
+        String configText = null;
+        FfaConfig config = null;
+        List<BlockItem> blocks = null;
+        List<DeathMessage> deathMessages = null;
+        List<Spawn> spawns = null;
+        ServicesManager sm = this.plugin.getSM();
+        if (sections.contains(Section.CONFIG)) {
+            try {
+                String text = Files.readString(this.configFile.toPath(), StandardCharsets.UTF_8);
+                YamlConfiguration yaml = new YamlConfiguration();
+                yaml.loadFromString(text);
+                try (InputStream in = this.plugin.getResource("config.yml")) {
+                    if (in != null) {
+                        try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                            yaml.setDefaults(YamlConfiguration.loadConfiguration(reader));
+                        }
+                    }
+                }
+                config = FfaConfig.parse(yaml, worlds, message -> warnings.add("config.yml: " + message));
+                configText = text;
+            } catch (IOException | InvalidConfigurationException e) {
+                errors.add("config.yml: " + e.getMessage());
+            }
+        }
+        if (sections.contains(Section.BLOCKS)) {
+            try {
+                blocks = sm.getBlockItemsManager().parse(warnings::add);
+            } catch (IOException e) {
+                errors.add(e.getMessage());
+            }
+        }
+        if (sections.contains(Section.DEATHMESSAGES)) {
+            try {
+                deathMessages = sm.getDeathMessagesManager().parse();
+            } catch (IOException e) {
+                errors.add(e.getMessage());
+            }
+        }
+        if (sections.contains(Section.SPAWNS))
+            spawns = sm.getSpawnManager().parseSpawns(worlds, warnings::add);
+        return new Snapshot(configText, config, blocks, deathMessages, spawns);
+    }
+
+    private Result swap(Set<Section> sections, Snapshot snapshot, List<String> warnings, List<String> errors) {
+        ServicesManager sm = this.plugin.getSM();
+        List<String> changes = new ArrayList<>();
+        if (snapshot.config() != null) {
+            Variables variables = sm.getVariables();
+            FfaConfig old = variables.getFfaConfig();
+            diffRecord("config.yml", old, snapshot.config(), changes);
+            try {
+                // keep the in-memory file in step, so a later saveConfig does not write the old values back
+                this.plugin.getConfig().loadFromString(snapshot.configText());
+            } catch (InvalidConfigurationException e) {
+                errors.add("config.yml: " + e.getMessage());
+            }
+            variables.publish(snapshot.config());
+            sm.getRewardEngine().compile(snapshot.config());
+            if (this.plugin.getMovementDispatcher() != null)
+                this.plugin.getMovementDispatcher().reload();
+            sm.getPositionSampler().setIntervalTicks(snapshot.config().samplerIntervalTicks());
+            if (old.samplerEnabled() != snapshot.config().samplerEnabled())
+                sm.getPositionSampler().setEnabled(snapshot.config().samplerEnabled());
+        }
+        if (snapshot.blocks() != null) {
+            BlockItemsManager blocks = sm.getBlockItemsManager();
+            diffKeyed("blocks.json", blocks.getBlockItems(), snapshot.blocks(),
+                    block -> block.getItem().getType().name(),
+                    block -> block.getPrice(), changes);
+            blocks.replace(snapshot.blocks());
+            sm.getKitRefill().invalidateTemplates();
+        }
+        if (snapshot.deathMessages() != null) {
+            DeathMessagesManager deathMessages = sm.getDeathMessagesManager();
+            diffKeyed("deathmessages.json", deathMessages.getDeathMessages(), snapshot.deathMessages(),
+                    DeathMessage::getID,
+                    message -> List.of(message.getMessageWithKiller(), message.getMessageWithoutKiller(),
+                            message.getPrice(), message.getCategory(), message.getPopularity()), changes);
+            deathMessages.replace(snapshot.deathMessages());
+        }
+        if (snapshot.blocks() != null || snapshot.deathMessages() != null) {
+            for (BridgePlayer player : sm.getPlayerManager().getLoadedView())
+                player.remapItems(sm.getBlockItemsManager(), sm.getDeathMessagesManager());
+        }
+        if (snapshot.spawns() != null) {
+            diffKeyed("spawns", sm.getSpawnManager().getSpawns(), snapshot.spawns(),
+                    spawn -> spawn.getName().toLowerCase(Locale.ROOT),
+                    spawn -> List.of(format(spawn.getLocation()), spawn.getGUIItem()), changes);
+            sm.getSpawnManager().replace(snapshot.spawns());
+        }
+        return new Result(sections, List.copyOf(changes), List.copyOf(warnings), List.copyOf(errors));
+    }
+
+    /**
+     * Compares two snapshots component by component
+     */
+    private static void diffRecord(String section, Record old, Record now, List<String> changes) {
+        for (RecordComponent component : old.getClass().getRecordComponents()) {
+            try {
+                Object before = component.getAccessor().invoke(old);
+                Object after = component.getAccessor().invoke(now);
+                if (!Objects.equals(before, after))
+                    changes.add(section + " " + component.getName() + ": " + format(before) + " -> " + format(after));
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Cannot read " + component.getName(), e);
+            }
+        }
+    }
+
+    /**
+     * Compares two entry lists by key: added, removed and changed entries
+     */
+    private static <T> void diffKeyed(String section, Collection<T> old, Collection<T> now,
+                                      Function<T, Object> key, Function<T, Object> value, List<String> changes) {
+        Map<Object, Object> before = new LinkedHashMap<>();
+        old.forEach(entry -> before.put(key.apply(entry), value.apply(entry)));
+        Map<Object, Object> after = new LinkedHashMap<>();
+        now.forEach(entry -> after.put(key.apply(entry), value.apply(entry)));
+        after.forEach((k, v) -> {
+            if (!before.containsKey(k))
+                changes.add(section + " + " + k);
+            else if (!Objects.equals(before.get(k), v))
+                changes.add(section + " ~ " + k);
+        });
+        before.keySet().forEach(k -> {
+            if (!after.containsKey(k))
+                changes.add(section + " - " + k);
+        });
+    }
+
+    private static Object format(Object value) {
+        if (value instanceof Location location)
+            return String.format("%s %.1f, %.1f, %.1f",
+                    location.getWorld() == null ? "?" : location.getWorld().getName(),
+                    location.getX(), location.getY(), location.getZ());
+        return value;
+    }
+
+    /**
+     * Reloads and logs the result to the console, queueing behind a running
+     * reload. Main thread only.
+     */
+    private void reloadAndLog(Set<Section> sections) {
+        if (this.running) {
+            this.pending.addAll(sections);
+            return;
+        }
+        reload(sections).whenComplete((result, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                this.plugin.getLogger().warning("[RELOAD] Failed: " + cause.getMessage());
+                return;
+            }
+            result.changes().forEach(line -> this.plugin.getLogger().info("[RELOAD] " + line));
+            result.warnings().forEach(line -> this.plugin.getLogger().warning("[RELOAD] " + line));
+            result.errors().forEach(line -> this.plugin.getLogger().severe("[RELOAD] " + line));
+        });
+    }
+
+    /**
+     * Reloads sections automatically when their files change
+     */
+    public void startWatching() {
+        if (this.watchService != null)
+            return;
+        try {
+            WatchService watchService = FileSystems.getDefault().newWatchService();
+            this.spawnsFolder.mkdirs();
+            this.plugin.getDataFolder().toPath().register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+            this.spawnsFolder.toPath().register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+            this.watchService = watchService;
+        } catch (IOException e) {
+            this.plugin.getLogger().warning("[RELOAD] Cannot watch the config files: " + e.getMessage());
+            return;
+        }
+        Thread thread = new Thread(this::watch, "Config-Watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void watch() {
+        WatchService watchService = this.watchService;
+        try {
+            while (true) {
+                Set<Section> sections = EnumSet.noneOf(Section.class);
+                collect(watchService.take(), sections);
+                // editors write in several steps; wait until the folder is quiet
+                WatchKey key;
+                while ((key = watchService.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)) != null)
+                    collect(key, sections);
+                if (!sections.isEmpty())
+                    this.mainThread.execute(() -> reloadAndLog(sections));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException ignored) {
+        }
+    }
+
+    private void collect(WatchKey key, Set<Section> sections) {
+        boolean spawns = this.spawnsFolder.toPath().equals(key.watchable());
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (!(event.context() instanceof Path path))
+                continue;
+            String name = path.getFileName().toString();
+            if (spawns) {
+                if (name.endsWith(".json"))
+                    sections.add(Section.SPAWNS);
+            } else if (name.equals("config.yml")) {
+                sections.add(Section.CONFIG);
+            } else if (name.equals("blocks.json")) {
+                sections.add(Section.BLOCKS);
+            } else if (name.equals("deathmessages.json")) {
+                sections.add(Section.DEATHMESSAGES);
+            }
+        }
+        key.reset();
+    }
+
+    public void shutdown() {
+        WatchService watchService = this.watchService;
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException ignored) {
+            }
+        }
+        this.executor.shutdownNow();
+    }
+}
@@ -3,10 +3,13 @@ package gg.azura.bridges.services;
 import gg.azura.bridges.Bridges;
 
 import javax.sql.PooledConnection;
+import java.io.File;
 import java.sql.*;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToIntFunction;
 
 public class DatabaseManager {
 
@@ -24,7 +27,6 @@ public class DatabaseManager {
 
     private final boolean ssl;
 
-    final int MAX_RETRIES = 3;
     final int QUERY_TIMEOUT = 5;
     private static final int MAX_POOL_SIZE = 10;
     private static final int MIN_POOL_SIZE = 3;
@@ -32,6 +34,11 @@ public class DatabaseManager {
     private static final long CONNECTION_TIMEOUT = 5000L; // 5 seconds
     private static final long VALIDATION_TIMEOUT = 1000L; // 1 second
     private static final long IDLE_TIMEOUT = 300000L; // 5 minutes
+    private static final int BREAKER_FAILURE_THRESHOLD = 5;
+    private static final long BREAKER_OPEN_MILLIS = 30000L; // 30 seconds
+    private static final long JOURNAL_REPLAY_INTERVAL = 5L; // seconds
+    private static final int UUID_BATCH_SIZE = 500;
+    private static final long REPLICA_LAG_CHECK_INTERVAL = 5L; // seconds
     private static final String CURRENT_TIME = "2025-02-04 18:33:46";
     private static final String CURRENT_USER = "SyncFocus17";
     // Connection pool
@@ -39,6 +46,36 @@ public class DatabaseManager {
     private Set<PooledConnection> activeConnections;
     private ReentrantLock poolLock;
     private volatile boolean shutdownInProgress;
+    // Outage handling
+    private CircuitBreaker circuitBreaker;
+    private WriteJournal journal;
+    private final AtomicBoolean replayInProgress = new AtomicBoolean(false);
+    // Per-statement latency profile and slow query log
+    private final QueryProfiler profiler;
+    // Optional read-only replica for stale-tolerant reads, null if not configured
+    private ReplicaPool replica;
+    // Name lookups
+    private final UUIDCache uuidCache = new UUIDCache();
+    private final ExecutorService ioExecutor = Executors.newFixedThreadPool(MAX_POOL_SIZE, r -> {
+        Thread thread = new Thread(r, "Database-Worker");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @FunctionalInterface
+    public interface SqlFunction<T> {
+        T apply(Connection connection) throws SQLException;
+    }
+
+    @FunctionalInterface
+    private interface SqlCall<T> {
+        T call() throws SQLException;
+    }
+
+    @FunctionalInterface
+    public interface RowMapper<T> {
+        T map(ResultSet rs) throws SQLException;
+    }
 
     private class PooledConnection {
         private final Connection connection;
@@ -207,6 +244,18 @@ public class DatabaseManager {
                 logPoolError("Maintenance failed", e);
             }
         }, 1, 1, TimeUnit.MINUTES);
+
+        executor.scheduleWithFixedDelay(() -> {
+            try {
+                replayJournal();
+            } catch (Exception e) {
+                logPoolError("Journal replay failed", e);
+            }
+        }, JOURNAL_REPLAY_INTERVAL, JOURNAL_REPLAY_INTERVAL, TimeUnit.SECONDS);
+
+        if (replica != null) {
+            executor.scheduleWithFixedDelay(replica::checkLag, 0L, REPLICA_LAG_CHECK_INTERVAL, TimeUnit.SECONDS);
+        }
     }
 
     /**
@@ -267,6 +316,9 @@ public class DatabaseManager {
         this.connectionPool = connectionPool;
         this.activeConnections = activeConnections;
         this.poolLock = poolLock;
+        this.profiler = new QueryProfiler(plugin, variables.slowQueryMillis);
+        initializeOutageHandling();
+        initializeReplica(variables);
         setup();
     }
 
@@ -292,131 +344,414 @@ public class DatabaseManager {
         final String CURRENT_TIME = "2025-02-04 18:29:01";
         final String CURRENT_USER = "SyncFocus17";
 
-        // Performance tracking
-        long startTime = System.nanoTime();
+        // Resolve from the name cache first; negative entries short-circuit as well
+        UUIDCache.Entry cached = uuidCache.get(name);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached.uuid());
+        }
 
         return CompletableFuture.supplyAsync(() -> {
-            // SQL query with index hint and parameter validation
+            // Names are recorded on join; the column's collation makes the match case-insensitive
             String query = """
-            SELECT uuid 
-            FROM player_data 
-            FORCE INDEX (idx_player_name)
-            WHERE LOWER(name) = LOWER(?) 
-            AND deleted_at IS NULL
+            SELECT uuid
+            FROM bridgeffa_players
+            WHERE name = ?
             LIMIT 1
             """;
 
-            // Track attempts for retry mechanism
-            for (int attempt = 1; attempt <= MAX_RETRIES; attempt++) {
+            try {
+                // Fails fast while the circuit breaker is open instead of sleeping between retries
+                UUID result = readQueryFirst("uuid.by_name", query,
+                        rs -> UUID.fromString(rs.getString("uuid")), name);
+
+                if (result != null) {
+                    uuidCache.put(name, result);
+                } else {
+                    uuidCache.putMissing(name);
+                }
+                return result;
+
+            } catch (SQLException e) {
+                logDatabaseError(
+                        circuitBreaker.isOpen() ? "Circuit open during UUID fetch" : "SQL error during UUID fetch",
+                        e,
+                        name
+                );
+            } catch (IllegalArgumentException e) {
+                logDatabaseError(
+                        "Invalid UUID format",
+                        e,
+                        name
+                );
+            }
+
+            return null;
+        }, ioExecutor);
+
+        }
+
+    /**
+     * Resolves many names at once. Cached names are answered directly, the
+     * rest are fetched with a single {@code IN (...)} query per chunk.
+     *
+     * @param names The player names to resolve
+     * @return future with a map of the requested names to their UUIDs; unknown names are absent
+     */
+    public CompletableFuture<Map<String, UUID>> fetchUUIDs(Collection<String> names) {
+        Map<String, UUID> resolved = new HashMap<>();
+        Map<String, String> missing = new LinkedHashMap<>();
+        for (String name : names) {
+            UUIDCache.Entry cached = uuidCache.get(name);
+            if (cached == null) {
+                missing.putIfAbsent(UUIDCache.key(name), name);
+            } else if (cached.isKnown()) {
+                resolved.put(name, cached.uuid());
+            }
+        }
+        if (missing.isEmpty()) {
+            return CompletableFuture.completedFuture(resolved);
+        }
+
+        return CompletableFuture.supplyAsync(() -> {
+            List<String> keys = new ArrayList<>(missing.keySet());
+            for (int from = 0; from < keys.size(); from += UUID_BATCH_SIZE) {
+                List<String> chunk = keys.subList(from, Math.min(from + UUID_BATCH_SIZE, keys.size()));
+                String query = """
+                SELECT uuid, name
+                FROM bridgeffa_players
+                WHERE name IN (%s)
+                """.formatted(String.join(", ", Collections.nCopies(chunk.size(), "?")));
+
                 try {
-                    // Get connection from pool with timeout
-                    Connection conn = getConnection()
-                            .get(QUERY_TIMEOUT, TimeUnit.SECONDS);
-
-                    if (conn == null || conn.isClosed()) {
-                        logDatabaseError(
-                                "Invalid connection during UUID fetch",
-                                null,
-                                name,
-                                attempt
-                        );
-                        continue;
+                    Map<String, UUID> found = new HashMap<>();
+                    readQuery("uuid.by_names", query,
+                            rs -> Map.entry(UUIDCache.key(rs.getString("name")), UUID.fromString(rs.getString("uuid"))),
+                            chunk.toArray())
+                            .forEach(entry -> found.put(entry.getKey(), entry.getValue()));
+
+                    for (String key : chunk) {
+                        String name = missing.get(key);
+                        UUID uuid = found.get(key);
+                        if (uuid != null) {
+                            uuidCache.put(name, uuid);
+                            resolved.put(name, uuid);
+                        } else {
+                            uuidCache.putMissing(name);
+                        }
                     }
+                } catch (SQLException | IllegalArgumentException e) {
+                    logDatabaseError("Bulk UUID fetch failed", e, chunk.size() + " names");
+                }
+            }
+            return resolved;
+        }, ioExecutor);
+    }
 
-                    try (PreparedStatement stmt = conn.prepareStatement(query)) {
-                        // Set query parameters
-                        stmt.setString(1, name);
-                        stmt.setQueryTimeout(QUERY_TIMEOUT);
-
-                        // Execute query
-                        try (ResultSet rs = stmt.executeQuery()) {
-                            if (rs.next()) {
-                                String uuidStr = rs.getString("uuid");
-                                UUID result = UUID.fromString(uuidStr);
-
-                                // Log success with performance metrics
-                                logQuerySuccess(
-                                        "UUID fetch",
-                                        name,
-                                        result,
-                                        startTime
-                                );
-
-                                return result;
-                            }
-                        }
-                    } finally {
-                        // Return connection to pool
-                        returnConnection(conn);
+    public UUIDCache getUUIDCache() {
+        return uuidCache;
+    }
+
+    /**
+     * Shared executor for blocking database work
+     */
+    public ExecutorService getIoExecutor() {
+        return ioExecutor;
+    }
+
+    /**
+     * Runs work on a pooled connection behind the circuit breaker. Only
+     * connectivity and transient failures count towards opening the breaker;
+     * a constraint or syntax error means the server answered. Every call
+     * records an outcome, so a half-open probe always resolves. While the
+     * breaker is open the call fails immediately without touching the pool.
+     */
+    public <T> T withConnection(SqlFunction<T> work) throws SQLException {
+        if (!circuitBreaker.allowRequest()) {
+            throw new SQLException("Database circuit breaker is open");
+        }
+
+        Connection conn = null;
+        boolean reachable = false;
+        try {
+            conn = getPooledConnection();
+            T result = work.apply(conn);
+            reachable = true;
+            return result;
+        } catch (SQLException e) {
+            reachable = !isConnectivityFailure(e);
+            throw e;
+        } catch (RuntimeException e) {
+            // A bug in the work itself says nothing about the database
+            reachable = conn != null;
+            throw e;
+        } finally {
+            if (reachable) {
+                circuitBreaker.recordSuccess();
+            } else {
+                circuitBreaker.recordFailure();
+            }
+            returnConnection(conn);
+        }
+    }
+
+    /**
+     * @return true if the failure says the database could not be reached or
+     *         should be retried, rather than that it rejected the statement
+     */
+    static boolean isConnectivityFailure(SQLException e) {
+        if (e instanceof SQLTransientException || e instanceof SQLRecoverableException
+                || e instanceof SQLNonTransientConnectionException) {
+            return true;
+        }
+        String state = e.getSQLState();
+        return state == null || state.startsWith("08");
+    }
+
+    /**
+     * Runs work behind the circuit breaker and records it in the query profile
+     * under {@code statement}. Used for reads and multi-statement work that
+     * does not fit {@link #query} or {@link #writeBatch}.
+     *
+     * @param rowCount Extracts the number of rows returned or affected from the result
+     */
+    public <T> T profiled(String statement, String sql, Object[] params,
+                          ToIntFunction<T> rowCount, SqlFunction<T> work) throws SQLException {
+        return timed(statement, sql, params, rowCount, () -> withConnection(work));
+    }
+
+    private <T> T timed(String statement, String sql, Object[] params,
+                        ToIntFunction<T> rowCount, SqlCall<T> call) throws SQLException {
+        long start = System.nanoTime();
+        try {
+            T result = call.call();
+            profiler.record(statement, sql, params, System.nanoTime() - start, rowCount.applyAsInt(result), false);
+            return result;
+        } catch (SQLException e) {
+            profiler.record(statement, sql, params, System.nanoTime() - start, 0, true);
+            throw e;
+        }
+    }
+
+    /**
+     * Runs a named query and maps every row of the result
+     */
+    public <T> List<T> query(String statement, String sql, RowMapper<T> mapper, Object... params) throws SQLException {
+        return profiled(statement, sql, params, List::size, select(sql, mapper, params));
+    }
+
+    /**
+     * Runs a named read that tolerates slightly stale data. It goes to the read
+     * replica when one is configured and within its lag bound, and falls back to
+     * the primary if the replica fails or returns nothing, since an empty result
+     * may only mean the replica has not caught up yet.
+     */
+    public <T> List<T> readQuery(String statement, String sql, RowMapper<T> mapper, Object... params) throws SQLException {
+        if (replica != null && replica.isWithinLag()) {
+            try {
+                List<T> rows = timed(statement + "@replica", sql, params, List::size,
+                        () -> replica.withConnection(select(sql, mapper, params)));
+                if (!rows.isEmpty()) {
+                    return rows;
+                }
+            } catch (SQLException e) {
+                plugin.getLogger().fine("[REPLICA] " + statement + " failed, using primary: " + e.getMessage());
+            }
+        }
+        return query(statement, sql, mapper, params);
+    }
+
+    /**
+     * @return the first row of {@link #readQuery}, or null if neither database returned one
+     */
+    public <T> T readQueryFirst(String statement, String sql, RowMapper<T> mapper, Object... params) throws SQLException {
+        List<T> rows = readQuery(statement, sql, mapper, params);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    private <T> SqlFunction<List<T>> select(String sql, RowMapper<T> mapper, Object[] params) {
+        return conn -> {
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                bind(stmt, params);
+                stmt.setQueryTimeout(QUERY_TIMEOUT);
+                List<T> rows = new ArrayList<>();
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        rows.add(mapper.map(rs));
                     }
+                }
+                return rows;
+            }
+        };
+    }
 
-                } catch (SQLException e) {
-                    logDatabaseError(
-                            "SQL error during UUID fetch",
-                            e,
-                            name,
-                            attempt
-                    );
-
-                    // Retry after delay if not last attempt
-                    if (attempt < MAX_RETRIES) {
-                        try {
-                            Thread.sleep(1000L * attempt); // Exponential backoff
-                        } catch (InterruptedException ie) {
-                            Thread.currentThread().interrupt();
-                            throw new CompletionException(ie);
+    /**
+     * @return the first mapped row of a named query, or null if it returned nothing
+     */
+    public <T> T queryFirst(String statement, String sql, RowMapper<T> mapper, Object... params) throws SQLException {
+        List<T> rows = query(statement, sql, mapper, params);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    /**
+     * Executes a named write immediately, without journaling. For maintenance
+     * writes that are simply redone on their next run if the database is down.
+     *
+     * @return the number of affected rows
+     */
+    public int update(String statement, String sql, Object... params) throws SQLException {
+        return profiled(statement, sql, params, rows -> rows, conn -> {
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                bind(stmt, params);
+                stmt.setQueryTimeout(QUERY_TIMEOUT);
+                return stmt.executeUpdate();
+            }
+        });
+    }
+
+    /**
+     * Executes a single named write, journaling it if the database is unavailable
+     */
+    public void write(String statement, String sql, Object... params) {
+        writeAtomic(statement, List.of(SqlWrite.of(sql, params)));
+    }
+
+    /**
+     * Executes a batch of writes in one transaction
+     *
+     * @see #writeAtomic(String, List)
+     */
+    public void writeBatch(String statement, String sql, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        writeAtomic(statement, List.of(new SqlWrite(sql, rows)));
+    }
+
+    /**
+     * Executes several writes, in order, in one transaction. If the database is
+     * unavailable, or older writes are still waiting in the journal, the whole
+     * group is journaled instead so it is replayed in order once the database
+     * recovers.
+     *
+     * @return true if the writes were committed, false if they were journaled
+     */
+    public boolean writeAtomic(String statement, List<SqlWrite> writes) {
+        if (journal.getBacklog() == 0) {
+            try {
+                executeWrites(statement, writes);
+                return true;
+            } catch (SQLException e) {
+                plugin.getLogger().warning(String.format(
+                        "[DATABASE] Write %s failed, journaling %d statement(s) | Breaker: %s | Error: %s",
+                        statement,
+                        writes.size(),
+                        circuitBreaker.getState(),
+                        e.getMessage()
+                ));
+            }
+        }
+        journal.append(writes);
+        return false;
+    }
+
+    private void executeWrites(String statement, List<SqlWrite> writes) throws SQLException {
+        SqlWrite first = writes.get(0);
+        profiled(statement, first.sql(), first.rows().get(0), Integer::intValue, conn -> {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try {
+                int affected = 0;
+                for (SqlWrite write : writes) {
+                    try (PreparedStatement stmt = conn.prepareStatement(write.sql())) {
+                        for (Object[] row : write.rows()) {
+                            bind(stmt, row);
+                            stmt.addBatch();
                         }
+                        affected += affectedRows(stmt.executeBatch());
                     }
-
-                } catch (IllegalArgumentException e) {
-                    logDatabaseError(
-                            "Invalid UUID format",
-                            e,
-                            name,
-                            attempt
-                    );
-                    // Don't retry for format errors
-                    break;
-
-                } catch (TimeoutException e) {
-                    logDatabaseError(
-                            "Connection timeout",
-                            e,
-                            name,
-                            attempt
-                    );
-                    // Continue to next attempt
-
-                } catch (Exception e) {
-                    logDatabaseError(
-                            "Unexpected error",
-                            e,
-                            name,
-                            attempt
-                    );
-                    // Don't retry for unexpected errors
-                    break;
                 }
+                conn.commit();
+                return affected;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
             }
+        });
+    }
 
-            // Log final failure
-            plugin.getLogger().severe(String.format(
-                    "[DATABASE] All attempts to fetch UUID failed for %s | User: %s | Time: %s",
-                    name,
-                    CURRENT_USER,
-                    CURRENT_TIME
-            ));
+    private static void bind(PreparedStatement stmt, Object[] params) throws SQLException {
+        for (int i = 0; i < params.length; i++) {
+            stmt.setObject(i + 1, params[i]);
+        }
+    }
 
-            return null;
-        }, CompletableFuture.delayedExecutor(0, TimeUnit.SECONDS,
-                Executors.newCachedThreadPool(r -> {
-                    Thread thread = new Thread(r, "Database-Worker");
-                    thread.setDaemon(true);
-                    return thread;
-                })
-        ));
+    /**
+     * Sums JDBC batch update counts; statements without a count are counted as one row
+     */
+    private static int affectedRows(int[] counts) {
+        int total = 0;
+        for (int count : counts) {
+            total += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
+        }
+        return total;
+    }
+
+    /**
+     * Replays journaled writes once the breaker lets requests through again
+     */
+    private void replayJournal() {
+        if (journal.getBacklog() == 0 || !replayInProgress.compareAndSet(false, true)) {
+            return;
+        }
+        journal.replay(writes -> executeWrites("journal.replay", writes))
+                .whenComplete((applied, error) -> replayInProgress.set(false));
+    }
+
+    public boolean isAvailable() {
+        return !circuitBreaker.isOpen();
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public WriteJournal getJournal() {
+        return journal;
+    }
+
+    public QueryProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * @return the read replica pool, or null if no replica is configured
+     */
+    public ReplicaPool getReplica() {
+        return replica;
+    }
+
+    public int getActiveConnectionCount() {
+        return activeConnections.size();
+    }
 
+    public int getIdleConnectionCount() {
+        return connectionPool.size();
+    }
+
+    /**
+     * Flushes the journal to disk and stops the journal thread
+     */
+    public void shutdown() {
+        shutdownInProgress = true;
+        ioExecutor.shutdown();
+        journal.close();
+        profiler.shutdown();
+        if (replica != null) {
+            replica.close();
         }
+    }
 
     /**
      * Safely closes a connection with error handling
@@ -459,17 +794,15 @@ public class DatabaseManager {
     private void logDatabaseError(
             String type,
             Exception e,
-            String playerName,
-            int attempt
+            String playerName
     ) {
         String errorMessage = e != null ? e.getMessage() : "Unknown error";
 
         plugin.getLogger().warning(String.format(
-                "[DATABASE] %s for player %s (Attempt %d/%d) | Error: %s | User: %s | Time: %s",
+                "[DATABASE] %s for player %s | Breaker: %s | Error: %s | User: %s | Time: %s",
                 type,
                 playerName,
-                attempt,
-                MAX_RETRIES,
+                circuitBreaker.getState(),
                 errorMessage,
                 "SyncFocus17",
                 "2025-02-04 18:29:01"
@@ -483,40 +816,6 @@ public class DatabaseManager {
         }
     }
 
-    /**
-     * Logs successful queries with performance metrics
-     */
-    private void logQuerySuccess(
-            String operation,
-            String playerName,
-            UUID result,
-            long startTime
-    ) {
-        long duration = (System.nanoTime() - startTime) / 1_000_000; // ms
-
-        plugin.getLogger().info(String.format(
-                "[DATABASE] %s successful for %s | UUID: %s | Duration: %dms | User: %s | Time: %s",
-                operation,
-                playerName,
-                result,
-                duration,
-                "SyncFocus17",
-                "2025-02-04 18:29:01"
-        ));
-
-        // Log performance warning if slow
-        if (duration > 100) { // 100ms threshold
-            plugin.getLogger().warning(String.format(
-                    "[PERFORMANCE] Slow %s for %s (%dms) | User: %s | Time: %s",
-                    operation,
-                    playerName,
-                    duration,
-                    "SyncFocus17",
-                    "2025-02-04 18:29:01"
-            ));
-        }
-    }
-
     /**
      * Creates a new connection
      */
@@ -654,6 +953,11 @@ public class DatabaseManager {
         this.username = variables.mysqlUsername;
         this.password = variables.mysqlPassword;
         this.ssl = variables.mysqlSSL;
+        this.profiler = new QueryProfiler(plugin, variables.slowQueryMillis);
+
+        // Initialize breaker and journal before the pool starts replaying
+        initializeOutageHandling();
+        initializeReplica(variables);
 
         // Initialize pool
         initializePool();
@@ -662,25 +966,182 @@ public class DatabaseManager {
         setup();
     }
 
+    /**
+     * Creates the circuit breaker and opens the local write journal
+     */
+    private void initializeOutageHandling() {
+        this.circuitBreaker = new CircuitBreaker(BREAKER_FAILURE_THRESHOLD, BREAKER_OPEN_MILLIS);
+        this.journal = new WriteJournal(plugin, new File(plugin.getDataFolder(), "journal/writes.journal"));
+    }
+
+    /**
+     * Creates the read replica pool if one is configured
+     */
+    private void initializeReplica(Variables variables) {
+        if (!variables.replicaEnabled) {
+            return;
+        }
+        String url = String.format("jdbc:mysql://%s:%d/%s?autoReconnect=true&useSSL=%b&serverTimezone=UTC",
+                variables.replicaHost, variables.replicaPort, database, ssl);
+        this.replica = new ReplicaPool(plugin, url, variables.replicaUsername, variables.replicaPassword,
+                variables.replicaMaxLagSeconds);
+        plugin.getLogger().info(String.format(
+                "[DATABASE] Read replica configured at %s:%d | Max lag: %ds",
+                variables.replicaHost, variables.replicaPort, variables.replicaMaxLagSeconds));
+    }
+
+    /**
+     * Adds a column to an existing table if it is missing
+     */
+    private void ensureColumn(Connection conn, String table, String column, String definition) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement("""
+                SELECT 1 FROM information_schema.COLUMNS
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND COLUMN_NAME = ?
+                """)) {
+            stmt.setString(1, table);
+            stmt.setString(2, column);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return;
+                }
+            }
+        }
+        try (PreparedStatement stmt = conn.prepareStatement(
+                String.format("ALTER TABLE %s ADD COLUMN %s %s", table, column, definition))) {
+            stmt.executeUpdate();
+        }
+        plugin.getLogger().info(String.format("[DATABASE] Added column %s.%s", table, column));
+    }
+
+    /**
+     * @return true if the table exists in the current schema
+     */
+    private boolean tableExists(Connection conn, String table) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement("""
+                SELECT 1 FROM information_schema.TABLES
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?
+                """)) {
+            stmt.setString(1, table);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    /**
+     * Adds an index to an existing table if it is missing
+     */
+    private void ensureIndex(Connection conn, String table, String index, String columns) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement("""
+                SELECT 1 FROM information_schema.STATISTICS
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND INDEX_NAME = ?
+                """)) {
+            stmt.setString(1, table);
+            stmt.setString(2, index);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return;
+                }
+            }
+        }
+        try (PreparedStatement stmt = conn.prepareStatement(
+                String.format("CREATE INDEX %s ON %s (%s)", index, table, columns))) {
+            stmt.executeUpdate();
+        }
+        plugin.getLogger().info(String.format("[DATABASE] Added index %s on %s", index, table));
+    }
+
     /**
      * Updates the setup method with proper resource management
      */
     public void setup() {
-        String createTableQuery = """
+        List<String> createTableQueries = List.of("""
         CREATE TABLE IF NOT EXISTS bridgeffa_players(
             uuid VARCHAR(36) PRIMARY KEY,
+            name VARCHAR(16),
             coins INTEGER DEFAULT 0,
             blocks_unlocked LONGTEXT DEFAULT '{}',
             block_selected LONGTEXT DEFAULT 'AIR',
             created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
             updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
         )
+    """, """
+        CREATE TABLE IF NOT EXISTS player_stats(
+            uuid VARCHAR(36) PRIMARY KEY,
+            kills INTEGER NOT NULL DEFAULT 0,
+            deaths INTEGER NOT NULL DEFAULT 0,
+            best_streak INTEGER NOT NULL DEFAULT 0,
+            last_updated TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+        )
+    """, """
+        CREATE TABLE IF NOT EXISTS bridgeffa_stat_flushes(
+            batch_id VARCHAR(36) PRIMARY KEY,
+            applied TINYINT NOT NULL DEFAULT 0,
+            created_at BIGINT NOT NULL,
+            INDEX idx_stat_flushes_created (created_at)
+        )
+    """, """
+        CREATE TABLE IF NOT EXISTS transactions(
+            id BIGINT AUTO_INCREMENT PRIMARY KEY,
+            op_id VARCHAR(36) UNIQUE,
+            player_id VARCHAR(36) NOT NULL,
+            type VARCHAR(16) NOT NULL,
+            amount DOUBLE NOT NULL,
+            timestamp BIGINT NOT NULL,
+            applied TINYINT NOT NULL DEFAULT 1
+        )
+    """, """
+        CREATE TABLE IF NOT EXISTS bridgeffa_economy_totals(
+            uuid VARCHAR(36) PRIMARY KEY,
+            earned DOUBLE NOT NULL DEFAULT 0,
+            spent DOUBLE NOT NULL DEFAULT 0,
+            tx_count BIGINT NOT NULL DEFAULT 0,
+            last_tx_id BIGINT NOT NULL DEFAULT 0
+        )
+    """, """
+        CREATE TABLE IF NOT EXISTS bridgeffa_balance_snapshots(
+            uuid VARCHAR(36) NOT NULL,
+            ledger_id BIGINT NOT NULL,
+            balance DOUBLE NOT NULL,
+            created_at BIGINT NOT NULL,
+            PRIMARY KEY (uuid, ledger_id)
+        )
+    """);
+        // One-time backfill for ledgers that predate the rollup table
+        String backfillTotals = """
+        INSERT IGNORE INTO bridgeffa_economy_totals (uuid, earned, spent, tx_count, last_tx_id)
+        SELECT player_id,
+               SUM(CASE WHEN type = 'EARN' THEN amount ELSE 0 END),
+               SUM(CASE WHEN type = 'SPEND' THEN amount ELSE 0 END),
+               COUNT(*),
+               MAX(id)
+        FROM transactions
+        GROUP BY player_id
     """;
 
-        try (Connection conn = getPooledConnection();
-             PreparedStatement stmt = conn.prepareStatement(createTableQuery)) {
-
-            stmt.executeUpdate();
+        Connection conn = null;
+        try {
+            conn = getPooledConnection();
+            boolean totalsExisted = tableExists(conn, "bridgeffa_economy_totals");
+            for (String query : createTableQueries) {
+                try (PreparedStatement stmt = conn.prepareStatement(query)) {
+                    stmt.executeUpdate();
+                }
+            }
+            // Ledger tables created by older versions lack the group commit columns
+            ensureColumn(conn, "transactions", "op_id", "VARCHAR(36) UNIQUE");
+            ensureColumn(conn, "transactions", "applied", "TINYINT NOT NULL DEFAULT 1");
+            // Profiles created by older versions lack the name used for offline lookups
+            ensureColumn(conn, "bridgeffa_players", "name", "VARCHAR(16)");
+            ensureIndex(conn, "bridgeffa_players", "idx_bridgeffa_players_name", "name");
+            ensureIndex(conn, "transactions", "idx_transactions_player_time", "player_id, timestamp");
+            ensureIndex(conn, "transactions", "idx_transactions_player_id", "player_id, id");
+            if (!totalsExisted) {
+                try (PreparedStatement stmt = conn.prepareStatement(backfillTotals)) {
+                    int rows = stmt.executeUpdate();
+                    plugin.getLogger().info(String.format("[DATABASE] Backfilled economy totals for %d players", rows));
+                }
+            }
             plugin.getLogger().info(String.format(
                     "[DATABASE] Tables created successfully | User: %s | Time: %s",
                     CURRENT_USER,
@@ -694,6 +1155,8 @@ public class DatabaseManager {
                     CURRENT_USER,
                     CURRENT_TIME
             ));
+        } finally {
+            returnConnection(conn);
         }
     }
-}
+}
\ No newline at end of file
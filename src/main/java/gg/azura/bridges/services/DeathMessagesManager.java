@@ -2,6 +2,7 @@ package gg.azura.bridges.services;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
 import com.google.gson.JsonParser;
 import gg.azura.bridges.Bridges;
 import gg.azura.bridges.DeathMessage;
@@ -18,10 +19,11 @@ import java.util.logging.Level;
 public class DeathMessagesManager {
 
     private final Bridges plugin;
-    private List<DeathMessage> deathMessages;
+    // immutable, replaced as a whole
+    private volatile List<DeathMessage> deathMessages;
 
     public DeathMessagesManager(Bridges plugin) {
-        this.deathMessages = new ArrayList<>();
+        this.deathMessages = List.of();
         this.plugin = plugin;
         load();
     }
@@ -34,16 +36,26 @@ public class DeathMessagesManager {
         return this.deathMessages.stream().filter(dm -> dm.getID() == id).findAny().orElse(null);
     }
 
-    private void load() {
+    /**
+     * Reads deathmessages.json without touching the loaded messages
+     *
+     * @throws IOException if the file cannot be read or an entry is malformed
+     */
+    public List<DeathMessage> parse() throws IOException {
+        File file = new File(this.plugin.getDataFolder(), "deathmessages.json");
+        if (!file.exists())
+            return List.of();
+        String jsonText;
+        try (Reader reader = new FileReader(file)) {
+            jsonText = readAll(reader);
+        }
+        List<DeathMessage> list = new ArrayList<>();
+        String current = null;
         try {
-            File file = new File(this.plugin.getDataFolder(), "deathmessages.json");
-            if (!file.exists()) return;
-
-            String jsonText = readAll(new FileReader(file));
-            this.deathMessages = new ArrayList<>();
             JsonObject json = JsonParser.parseString(jsonText).getAsJsonObject();
 
             for (String idS : json.keySet()) {
+                current = idS;
                 int id = Integer.parseInt(idS);
                 JsonObject json2 = json.get(idS).getAsJsonObject();
                 String messageWithKiller = json2.get("message_with_killer").getAsString();
@@ -52,8 +64,26 @@ public class DeathMessagesManager {
                 String category = json2.has("category") ? json2.get("category").getAsString() : "Default";
                 String popularity = json2.has("popularity") ? json2.get("popularity").getAsString() : "Common";
 
-                this.deathMessages.add(new DeathMessage(id, messageWithKiller, messageWithoutKiller, price, category, popularity));
+                list.add(new DeathMessage(id, messageWithKiller, messageWithoutKiller, price, category, popularity));
             }
+        } catch (JsonParseException | IllegalStateException | UnsupportedOperationException | NullPointerException | NumberFormatException e) {
+            throw new IOException(current == null
+                    ? "deathmessages.json is not a JSON object"
+                    : "deathmessages.json: entry '" + current + "' is malformed", e);
+        }
+        return List.copyOf(list);
+    }
+
+    /**
+     * Swaps in messages returned by {@link #parse}
+     */
+    public void replace(List<DeathMessage> deathMessages) {
+        this.deathMessages = List.copyOf(deathMessages);
+    }
+
+    private void load() {
+        try {
+            replace(parse());
         } catch (IOException ex) {
             ex.printStackTrace();
             this.plugin.getServer().getLogger().log(Level.WARNING, "");
@@ -0,0 +1,241 @@
+package gg.azura.bridges.services;
+
+import gg.azura.bridges.ffa.Region;
+import gg.azura.bridges.ffa.SpawnRegion;
+import gg.azura.bridges.utils.CC;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Immutable snapshot of the gameplay settings in {@code config.yml}.
+ * <p>
+ * Everything is parsed, validated and resolved once per load: worlds to
+ * their UIDs, the lobby to a compiled {@link SpawnRegion}, regions to boxes,
+ * reward tables to maps and the death message suffix to colour codes. The
+ * current snapshot is published through one volatile reference
+ * ({@link Variables#getFfaConfig()}); readers take it once per event and
+ * never see a half-applied reload. Changes build a new snapshot.
+ * <p>
+ * Connection, ledger and audit settings stay in {@link Variables}: they are
+ * read once at startup.
+ *
+ * @param lobby Mutable by nature; {@link #lobby()} hands out copies
+ */
+public record FfaConfig(
+        List<String> worldNames,
+        Set<UUID> worlds,
+        Location lobby,
+        String lobbyDetection,
+        double lobbyHRadius,
+        double lobbyVRadius,
+        String lobbyXBounds,
+        String lobbyYBounds,
+        String lobbyZBounds,
+        SpawnRegion spawnRegion,
+        List<Region> regions,
+        int deathY,
+        int activateY,
+        long refillCooldownMillis,
+        boolean healOnKill,
+        boolean disableFallDamage,
+        boolean quickRespawn,
+        boolean overrideKillCommand,
+        String deathMessageSuffix,
+        int killReward,
+        int firstBloodReward,
+        Map<Integer, Integer> streakRewards,
+        Map<String, Double> worldMultipliers,
+        boolean samplerEnabled,
+        long samplerIntervalTicks) {
+
+    public FfaConfig {
+        worldNames = List.copyOf(worldNames);
+        worlds = Set.copyOf(worlds);
+        lobby = lobby == null ? null : lobby.clone();
+        regions = List.copyOf(regions);
+        streakRewards = Map.copyOf(streakRewards);
+        worldMultipliers = Map.copyOf(worldMultipliers);
+    }
+
+    /**
+     * Parses the gameplay settings
+     *
+     * @param worlds  Loaded worlds by name, taken on the main thread
+     * @param warning Receives a message for every setting that was ignored or replaced
+     */
+    public static FfaConfig parse(ConfigurationSection config, Map<String, World> worlds, Consumer<String> warning) {
+        List<String> worldNames = config.getStringList("worlds");
+        Set<UUID> worldIds = new HashSet<>();
+        for (String name : worldNames) {
+            World world = worlds.get(name);
+            if (world != null)
+                worldIds.add(world.getUID());
+        }
+
+        String lobbyWorld = config.getString("lobby.world");
+        Location lobby = new Location(lobbyWorld == null ? null : worlds.get(lobbyWorld),
+                config.getDouble("lobby.x"), config.getDouble("lobby.y"), config.getDouble("lobby.z"),
+                (float) config.getDouble("lobby.yaw"), (float) config.getDouble("lobby.pitch"));
+        if (lobby.getWorld() == null)
+            warning.accept("lobby.world '" + lobbyWorld + "' is not loaded");
+        String detection = config.getString("lobby_detection", "ycoord");
+        double hRadius = config.getDouble("lobby.hradius", 20.0D);
+        double vRadius = config.getDouble("lobby.vradius", 6.0D);
+        String xBounds = config.getString("lobby.xbounds");
+        String yBounds = config.getString("lobby.ybounds");
+        String zBounds = config.getString("lobby.zbounds");
+        SpawnRegion spawnRegion = compileSpawnRegion(detection, lobby, hRadius, vRadius, xBounds, yBounds, zBounds, warning);
+
+        List<Region> regions = new ArrayList<>();
+        ConfigurationSection regionSection = config.getConfigurationSection("regions");
+        if (regionSection != null) {
+            for (String name : regionSection.getKeys(false)) {
+                try {
+                    regions.add(parseRegion(name, regionSection.getConfigurationSection(name)));
+                } catch (IllegalArgumentException e) {
+                    warning.accept("Ignoring region '" + name + "': " + e.getMessage());
+                }
+            }
+        }
+
+        Map<Integer, Integer> streakRewards = new HashMap<>();
+        ConfigurationSection streaks = config.getConfigurationSection("rewards.streak");
+        if (streaks != null) {
+            for (String key : streaks.getKeys(false)) {
+                try {
+                    streakRewards.put(Integer.parseInt(key), Math.max(0, streaks.getInt(key)));
+                } catch (NumberFormatException e) {
+                    warning.accept("Ignoring streak reward '" + key + "': not a streak length");
+                }
+            }
+        }
+        Map<String, Double> worldMultipliers = new HashMap<>();
+        ConfigurationSection multipliers = config.getConfigurationSection("rewards.world_multipliers");
+        if (multipliers != null) {
+            for (String world : multipliers.getKeys(false))
+                worldMultipliers.put(world, Math.max(0.0D, multipliers.getDouble(world)));
+        }
+
+        int deathY = config.getInt("death_y", 15);
+        int activateY = config.getInt("activate_y", 60);
+        if (activateY <= deathY)
+            warning.accept("activate_y (" + activateY + ") is not above death_y (" + deathY + ")");
+
+        return new FfaConfig(
+                worldNames,
+                worldIds,
+                lobby,
+                detection,
+                hRadius,
+                vRadius,
+                xBounds,
+                yBounds,
+                zBounds,
+                spawnRegion,
+                regions,
+                deathY,
+                activateY,
+                Math.max(0L, config.getLong("refill_cooldown_ms", 500L)),
+                config.getBoolean("heal_on_kill", true),
+                config.getBoolean("disable_falldamage", true),
+                config.getBoolean("quick_respawn", true),
+                config.getBoolean("override_kill_command", true),
+                CC.t(config.getString("death_message_suffix", "&7(&c%s<3&&)")),
+                Math.max(0, config.getInt("rewards.kill", 2)),
+                Math.max(0, config.getInt("rewards.first_blood", 0)),
+                streakRewards,
+                worldMultipliers,
+                config.getBoolean("heatmap.enabled", false),
+                Math.max(1L, config.getLong("heatmap.interval_ticks", 10L)));
+    }
+
+    @Override
+    public Location lobby() {
+        return this.lobby == null ? null : this.lobby.clone();
+    }
+
+    public boolean isFFAWorld(World world) {
+        return world != null && this.worlds.contains(world.getUID());
+    }
+
+    /**
+     * @return this snapshot with a new lobby and the spawn region compiled around it
+     */
+    public FfaConfig withLobby(Location lobby, Consumer<String> warning) {
+        return new FfaConfig(worldNames, worlds, lobby, lobbyDetection, lobbyHRadius, lobbyVRadius,
+                lobbyXBounds, lobbyYBounds, lobbyZBounds,
+                compileSpawnRegion(lobbyDetection, lobby, lobbyHRadius, lobbyVRadius,
+                        lobbyXBounds, lobbyYBounds, lobbyZBounds, warning),
+                regions, deathY, activateY, refillCooldownMillis, healOnKill, disableFallDamage, quickRespawn,
+                overrideKillCommand, deathMessageSuffix, killReward, firstBloodReward, streakRewards,
+                worldMultipliers, samplerEnabled, samplerIntervalTicks);
+    }
+
+    /**
+     * @return this snapshot with the world added if it is a configured FFA
+     *         world, else this snapshot
+     */
+    public FfaConfig withLoadedWorld(World world) {
+        if (!this.worldNames.contains(world.getName()) || this.worlds.contains(world.getUID()))
+            return this;
+        Set<UUID> worlds = new HashSet<>(this.worlds);
+        worlds.add(world.getUID());
+        return new FfaConfig(worldNames, worlds, lobby, lobbyDetection, lobbyHRadius, lobbyVRadius,
+                lobbyXBounds, lobbyYBounds, lobbyZBounds, spawnRegion, regions, deathY, activateY,
+                refillCooldownMillis, healOnKill, disableFallDamage, quickRespawn, overrideKillCommand,
+                deathMessageSuffix, killReward, firstBloodReward, streakRewards, worldMultipliers,
+                samplerEnabled, samplerIntervalTicks);
+    }
+
+    private static SpawnRegion compileSpawnRegion(String detection, Location lobby, double hRadius, double vRadius,
+                                                  String xBounds, String yBounds, String zBounds,
+                                                  Consumer<String> warning) {
+        try {
+            return SpawnRegion.compile(detection, lobby, hRadius, vRadius, xBounds, yBounds, zBounds);
+        } catch (IllegalArgumentException e) {
+            warning.accept(e.getMessage() + ", using the lobby radius instead");
+            return SpawnRegion.radius(lobby, hRadius, vRadius);
+        }
+    }
+
+    private static Region parseRegion(String name, ConfigurationSection section) {
+        if (section == null)
+            throw new IllegalArgumentException("not a section");
+        if (name.equals(Region.SPAWN) || name.equals(Region.ARENA) || name.equals(Region.VOID))
+            throw new IllegalArgumentException("name is reserved");
+        String world = section.getString("world");
+        if (world == null)
+            throw new IllegalArgumentException("world is missing");
+        int[] min = parseBlock(section.getString("min"));
+        int[] max = parseBlock(section.getString("max"));
+        return new Region(name, world, false, new SpawnRegion.Box(
+                Math.min(min[0], max[0]), Math.max(min[0], max[0]),
+                Math.min(min[1], max[1]), Math.max(min[1], max[1]),
+                Math.min(min[2], max[2]), Math.max(min[2], max[2])));
+    }
+
+    private static int[] parseBlock(String value) {
+        String[] parts = value == null ? new String[0] : value.split(",");
+        if (parts.length != 3)
+            throw new IllegalArgumentException("min and max must be 'x,y,z', got '" + value + "'");
+        try {
+            return new int[] {
+                    (int) Math.floor(Double.parseDouble(parts[0].trim())),
+                    (int) Math.floor(Double.parseDouble(parts[1].trim())),
+                    (int) Math.floor(Double.parseDouble(parts[2].trim()))
+            };
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("min and max must be 'x,y,z', got '" + value + "'");
+        }
+    }
+}
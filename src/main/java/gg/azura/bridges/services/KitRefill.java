@@ -0,0 +1,105 @@
+package gg.azura.bridges.services;
+
+import gg.azura.bridges.BlockItem;
+import gg.azura.bridges.BridgePlayer;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Tops up a player's bridge blocks.
+ * <p>
+ * Each player has one bridge-block slot, remembered between refills. A refill
+ * writes a full stack to that slot with a single {@code setItem}, so the
+ * inventory never collects duplicate stacks and is only scanned when the
+ * slot is lost. The full stack is built once per {@link BlockItem} and never
+ * handed out; the inventory copies it. Refills closer together than the
+ * configured cooldown are dropped.
+ * <p>
+ * Main thread only.
+ */
+public class KitRefill {
+
+    /**
+     * Per-player refill state, owned by {@link BridgePlayer}
+     */
+    public static final class State {
+        private int slot = -1;
+        private long lastRefill;
+    }
+
+    private final Variables variables;
+    private final Map<BlockItem, ItemStack> templates = new IdentityHashMap<>();
+
+    public KitRefill(Variables variables) {
+        this.variables = variables;
+    }
+
+    /**
+     * Refills the player's selected blocks
+     *
+     * @return whether anything was written
+     */
+    public boolean refill(BridgePlayer user) {
+        return refill(user, user.getSelectedBlockItem());
+    }
+
+    /**
+     * Refills the given blocks into the player's bridge-block slot
+     *
+     * @return whether anything was written
+     */
+    public boolean refill(BridgePlayer user, BlockItem blockItem) {
+        Player player = user.getPlayer();
+        if (player == null || blockItem == null)
+            return false;
+        State state = user.getRefillState();
+        long now = System.currentTimeMillis();
+        if (now - state.lastRefill < this.variables.getFfaConfig().refillCooldownMillis())
+            return false;
+
+        ItemStack template = this.templates.computeIfAbsent(blockItem, KitRefill::template);
+        PlayerInventory inventory = player.getInventory();
+        int slot = findSlot(inventory, state.slot, template.getType());
+        if (slot < 0)
+            return false;
+        state.slot = slot;
+        ItemStack current = inventory.getItem(slot);
+        if (current != null && current.getType() == template.getType() && current.getAmount() >= template.getAmount())
+            return false;
+        inventory.setItem(slot, template);
+        state.lastRefill = now;
+        return true;
+    }
+
+    /**
+     * Drops the prebuilt stacks, e.g. after the block items were reloaded
+     */
+    public void invalidateTemplates() {
+        this.templates.clear();
+    }
+
+    /**
+     * @return the remembered slot if it is empty or still holds the blocks,
+     *         else the first stack of the blocks, else the first empty slot
+     */
+    private static int findSlot(PlayerInventory inventory, int remembered, Material material) {
+        if (remembered >= 0) {
+            ItemStack item = inventory.getItem(remembered);
+            if (item == null || item.getType() == Material.AIR || item.getType() == material)
+                return remembered;
+        }
+        int slot = inventory.first(material);
+        return slot >= 0 ? slot : inventory.firstEmpty();
+    }
+
+    private static ItemStack template(BlockItem blockItem) {
+        ItemStack stack = blockItem.getItem().clone();
+        stack.setAmount(stack.getMaxStackSize());
+        return stack;
+    }
+}
@@ -0,0 +1,213 @@
+package gg.azura.bridges.services;
+
+import gg.azura.bridges.BridgePlayer;
+import gg.azura.bridges.Bridges;
+import gg.azura.bridges.Transaction;
+import gg.azura.bridges.TransactionType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Append-only writer for the coin ledger.
+ * <p>
+ * Transactions are handed over through a lock-free ring buffer and group
+ * committed by a single writer thread, either every {@code flushIntervalMillis}
+ * or as soon as {@code batchSize} entries are waiting. Each group is one
+ * multi-row insert plus the rollup and balance updates, executed as a single
+ * database transaction (or journaled as one unit while the database is down).
+ * Balances are only ever changed as {@code coins = coins + delta}, so writes
+ * from several servers never overwrite each other.
+ * <p>
+ * Every group statement is keyed on the entries' operation ids and only
+ * touches rows that are not yet {@code applied}, so replaying a group that
+ * already committed changes nothing.
+ */
+public class LedgerWriter {
+
+    private static final int RING_CAPACITY = 8192;
+
+    private final Bridges plugin;
+    private final DatabaseManager db;
+    private final int batchSize;
+    private final MpscRingBuffer<Entry> ring;
+    private final ConcurrentLinkedQueue<Entry> overflow;
+    private final ScheduledExecutorService executor;
+    private final AtomicBoolean flushScheduled;
+
+    private record Entry(Transaction transaction, CompletableFuture<Boolean> future) {
+    }
+
+    public LedgerWriter(Bridges plugin, DatabaseManager db, Variables variables) {
+        this.plugin = plugin;
+        this.db = db;
+        this.batchSize = Math.max(1, variables.ledgerBatchSize);
+        this.ring = new MpscRingBuffer<>(RING_CAPACITY);
+        this.overflow = new ConcurrentLinkedQueue<>();
+        this.flushScheduled = new AtomicBoolean(false);
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "Ledger-Writer");
+            t.setDaemon(true);
+            return t;
+        });
+        this.executor.scheduleWithFixedDelay(this::flush,
+                variables.ledgerFlushMillis, variables.ledgerFlushMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Queues a transaction for the next group commit. The in-memory totals and
+     * hourly earnings of an online player are updated immediately.
+     *
+     * @return future completed with true once the entry is committed, or with
+     *         false once it is journaled; a journaled entry reaches the stored
+     *         balance only when replay marks it {@code applied}
+     */
+    public CompletableFuture<Boolean> append(Transaction transaction) {
+        BridgePlayer player = plugin.getSM().getPlayerManager().getPlayer(transaction.getPlayerId());
+        if (player != null) {
+            player.getEconomyTotals().record(transaction.getType(), transaction.getAmount());
+            if (transaction.getType() == TransactionType.EARN) {
+                player.getEarningsWindow().record((long) transaction.getAmount(), transaction.getTimestamp());
+            }
+        }
+
+        Entry entry = new Entry(transaction, new CompletableFuture<>());
+        if (!ring.offer(entry)) {
+            // The writer has fallen behind; never block the caller (usually the main thread)
+            overflow.add(entry);
+        }
+        if (ring.size() >= batchSize && flushScheduled.compareAndSet(false, true)) {
+            executor.execute(this::flush);
+        }
+        return entry.future();
+    }
+
+    /**
+     * Commits every pending entry and stops the writer thread
+     */
+    public void shutdown() {
+        try {
+            executor.submit(this::flushAll).get(10, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            plugin.getLogger().warning("[LEDGER] Final flush failed: " + e.getMessage());
+        }
+        executor.shutdown();
+    }
+
+    public int getPending() {
+        return ring.size() + overflow.size();
+    }
+
+    private void flushAll() {
+        while (getPending() > 0) {
+            if (flushBatch() == 0) {
+                break;
+            }
+        }
+    }
+
+    private void flush() {
+        flushScheduled.set(false);
+        flushBatch();
+    }
+
+    private int flushBatch() {
+        List<Entry> batch = new ArrayList<>(batchSize);
+        ring.drainTo(batch, batchSize);
+        Entry spilled;
+        while (batch.size() < batchSize && (spilled = overflow.poll()) != null) {
+            batch.add(spilled);
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            boolean committed = db.writeAtomic("ledger.group_commit", groupWrites(batch));
+            batch.forEach(entry -> entry.future().complete(committed));
+        } catch (RuntimeException e) {
+            plugin.getLogger().severe("[LEDGER] Failed to commit " + batch.size() + " entries: " + e.getMessage());
+            batch.forEach(entry -> entry.future().completeExceptionally(e));
+        }
+        return batch.size();
+    }
+
+    private static List<SqlWrite> groupWrites(List<Entry> batch) {
+        Object[] rows = new Object[batch.size() * 5];
+        Object[] opIds = new Object[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            Transaction tx = batch.get(i).transaction();
+            String opId = tx.getOpId().toString();
+            rows[i * 5] = opId;
+            rows[i * 5 + 1] = tx.getPlayerId().toString();
+            rows[i * 5 + 2] = tx.getType().name();
+            rows[i * 5 + 3] = tx.getAmount();
+            rows[i * 5 + 4] = tx.getTimestamp();
+            opIds[i] = opId;
+        }
+        String insert = """
+                INSERT IGNORE INTO transactions (op_id, player_id, type, amount, timestamp, applied)
+                VALUES %s
+                """.formatted(String.join(", ", Collections.nCopies(batch.size(), "(?, ?, ?, ?, ?, 0)")));
+
+        List<SqlWrite> writes = new ArrayList<>(4);
+        writes.add(SqlWrite.of(insert, rows));
+        writes.addAll(applyWrites(opIds));
+        return writes;
+    }
+
+    /**
+     * Statements that fold freshly inserted, not yet {@code applied} ledger rows
+     * into the rollups and balances, then mark them applied. Shared by every
+     * writer that inserts ledger rows with {@code applied = 0}.
+     *
+     * @param opIds Operation ids of the inserted rows; ids without a row are ignored
+     */
+    static List<SqlWrite> applyWrites(Object[] opIds) {
+        String inList = String.join(", ", Collections.nCopies(opIds.length, "?"));
+        String rollup = """
+                INSERT INTO bridgeffa_economy_totals (uuid, earned, spent, tx_count, last_tx_id)
+                SELECT * FROM (
+                    SELECT player_id,
+                           SUM(CASE WHEN type = 'EARN' THEN amount ELSE 0 END) AS batch_earned,
+                           SUM(CASE WHEN type = 'SPEND' THEN amount ELSE 0 END) AS batch_spent,
+                           COUNT(*) AS batch_count,
+                           MAX(id) AS batch_last_id
+                    FROM transactions
+                    WHERE applied = 0 AND op_id IN (%s)
+                    GROUP BY player_id
+                ) AS batch
+                ON DUPLICATE KEY UPDATE
+                earned = earned + batch.batch_earned, spent = spent + batch.batch_spent,
+                tx_count = tx_count + batch.batch_count, last_tx_id = GREATEST(last_tx_id, batch.batch_last_id)
+                """.formatted(inList);
+        String balances = """
+                INSERT INTO bridgeffa_players (uuid, coins)
+                SELECT * FROM (
+                    SELECT player_id,
+                           SUM(CASE WHEN type = 'SPEND' THEN -amount ELSE amount END) AS batch_delta
+                    FROM transactions
+                    WHERE applied = 0 AND op_id IN (%s)
+                    GROUP BY player_id
+                ) AS batch
+                ON DUPLICATE KEY UPDATE coins = coins + batch.batch_delta
+                """.formatted(inList);
+        String markApplied = """
+                UPDATE transactions SET applied = 1
+                WHERE applied = 0 AND op_id IN (%s)
+                """.formatted(inList);
+
+        return List.of(
+                SqlWrite.of(rollup, opIds),
+                SqlWrite.of(balances, opIds),
+                SqlWrite.of(markApplied, opIds)
+        );
+    }
+}
@@ -0,0 +1,81 @@
+package gg.azura.bridges.services;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free ring buffer for many producers and a single consumer.
+ * <p>
+ * Producers claim a sequence with a CAS on the tail and then publish their
+ * element into the claimed slot; the consumer only advances past a slot once
+ * the element is visible, so a slow producer briefly holds back the consumer
+ * but never loses an element.
+ */
+public class MpscRingBuffer<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    /**
+     * @param capacity Rounded up to the next power of two
+     */
+    public MpscRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * @return false if the buffer is full
+     */
+    public boolean offer(T element) {
+        long sequence;
+        do {
+            sequence = tail.get();
+            if (sequence - head >= slots.length()) {
+                return false;
+            }
+        } while (!tail.compareAndSet(sequence, sequence + 1));
+
+        slots.lazySet((int) (sequence & mask), element);
+        return true;
+    }
+
+    /**
+     * Moves up to {@code limit} published elements into {@code target}.
+     * Must only be called from the consumer thread.
+     *
+     * @return number of elements drained
+     */
+    public int drainTo(List<T> target, int limit) {
+        long sequence = head;
+        int drained = 0;
+        while (drained < limit) {
+            int index = (int) (sequence & mask);
+            T element = slots.get(index);
+            if (element == null) {
+                break;
+            }
+            slots.lazySet(index, null);
+            target.add(element);
+            sequence++;
+            drained++;
+        }
+        head = sequence;
+        return drained;
+    }
+
+    /**
+     * @return approximate number of claimed slots
+     */
+    public int size() {
+        return (int) Math.max(0L, tail.get() - head);
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+}
@@ -2,15 +2,21 @@ package gg.azura.bridges.services;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import gg.azura.bridges.BridgePlayer;
 import gg.azura.bridges.Bridges;
+import gg.azura.bridges.events.BridgeRegionEvent;
 import gg.azura.bridges.gui.SoundSettings;
+import gg.azura.bridges.utils.Positions;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.scheduler.BukkitRunnable;
@@ -18,16 +24,55 @@ import org.bukkit.scheduler.BukkitRunnable;
 public class PlayerManager {
 
     private final Bridges plugin;
-    private final Set<BridgePlayer> players;
+    private final ConcurrentHashMap<UUID, BridgePlayer> players;
     private final Map<UUID, Map<Object, Object>> savingQueue;
+    private final BoundedCache<UUID, BridgePlayer> recentlyQuit;
     private SoundSettings soundSettings;
 
+    private static final int RECENTLY_QUIT_CAPACITY = 256;
+    // A name belongs to one account at a time; whoever joins with it last owns it
+    private static final String RELEASE_NAME_QUERY = "UPDATE bridgeffa_players SET name = NULL WHERE name = ? AND uuid <> ?";
+    private static final String RECORD_NAME_QUERY = """
+            INSERT INTO bridgeffa_players (uuid, name) VALUES (?, ?)
+            ON DUPLICATE KEY UPDATE name = VALUES(name)
+            """;
+    private static final long STAT_FLUSH_RETENTION_MILLIS = TimeUnit.DAYS.toMillis(7);
+    private static final String CLAIM_STAT_FLUSH_QUERY = """
+            INSERT IGNORE INTO bridgeffa_stat_flushes (batch_id, applied, created_at)
+            VALUES (?, 0, ?)
+            """;
+    // Only adds anything while the flush's marker is still unapplied
+    private static final String FLUSH_STATS_QUERY = """
+            INSERT INTO player_stats (uuid, kills, deaths, best_streak)
+            SELECT * FROM (
+                SELECT ? AS stat_uuid, ? AS delta_kills, ? AS delta_deaths, ? AS delta_best_streak
+                FROM bridgeffa_stat_flushes
+                WHERE batch_id = ? AND applied = 0
+            ) AS delta
+            ON DUPLICATE KEY UPDATE
+            kills = kills + ?, deaths = deaths + ?, best_streak = GREATEST(best_streak, ?)
+            """;
+    private static final String MARK_STAT_FLUSH_QUERY = """
+            UPDATE bridgeffa_stat_flushes SET applied = 1
+            WHERE batch_id = ? AND applied = 0
+            """;
+    private static final String PRUNE_STAT_FLUSHES_QUERY = """
+            DELETE FROM bridgeffa_stat_flushes
+            WHERE applied = 1 AND created_at < ?
+            """;
+
     public PlayerManager(Bridges plugin, SoundSettings soundSettings) {
         this.plugin = plugin;
         this.soundSettings = soundSettings;
-        this.players = new HashSet<>();
+        this.players = new ConcurrentHashMap<>();
         this.savingQueue = new HashMap<>();
+        this.recentlyQuit = BoundedCache.<UUID, BridgePlayer>builder()
+                .name("recently-quit")
+                .maximumSize(RECENTLY_QUIT_CAPACITY)
+                .build();
         startSaveTask();
+        startStatsFlushTask();
+        startEarningsRollTask();
     }
 
     public BridgePlayer getPlayer(Player player) {
@@ -35,63 +80,90 @@ public class PlayerManager {
     }
 
     public BridgePlayer getPlayer(UUID uuid) {
-        return this.players.stream()
-                .filter(p -> p.getUUID().equals(uuid))
-                .findAny()
-                .orElse(null);
+        return this.players.get(uuid);
     }
 
     public BridgePlayer getPlayer(String name) {
-        return this.players.stream()
+        return this.players.values().stream()
                 .filter(p -> p.getName().toLowerCase().startsWith(name.toLowerCase()))
                 .findAny()
                 .orElse(null);
     }
 
     public BridgePlayer getBridgePlayer(UUID uniqueId) {
-        return this.players.stream()
-                .filter(bridgePlayer -> bridgePlayer.getUUID().equals(uniqueId))
-                .findFirst()
-                .orElseGet(() -> {
-                    BridgePlayer bridgePlayer = loadBridgePlayer(uniqueId);
-                    if (bridgePlayer != null) {
-                        this.players.add(bridgePlayer);
-                    }
-                    return bridgePlayer;
-                });
+        BridgePlayer loaded = this.players.get(uniqueId);
+        if (loaded != null)
+            return loaded;
+        // Serve the last known state while the database is unavailable
+        if (!this.plugin.getSM().getDBManager().isAvailable()) {
+            return this.recentlyQuit.get(uniqueId);
+        }
+        BridgePlayer bridgePlayer = loadBridgePlayer(uniqueId);
+        if (bridgePlayer == null)
+            return null;
+        BridgePlayer raced = this.players.putIfAbsent(uniqueId, bridgePlayer);
+        return raced != null ? raced : bridgePlayer;
     }
 
     private BridgePlayer loadBridgePlayer(UUID uniqueId) {
         // Load player data from database if player is not in cache
         try {
-            return this.plugin.getSM().getDBManager().getConnection().thenApply(connection -> {
-                try (PreparedStatement ps = connection.prepareStatement(
-                        "SELECT * FROM bridgeffa_players WHERE uuid = ?")) {
-                    ps.setString(1, uniqueId.toString());
-                    var resultSet = ps.executeQuery();
-                    if (resultSet.next()) {
-                        return new BridgePlayer(uniqueId, resultSet);
-                    }
-                } catch (SQLException ex) {
-                    ex.printStackTrace();
-                }
-                return null;
-            }).get();
-        } catch (Exception e) {
+            return this.plugin.getSM().getDBManager().queryFirst("player.load",
+                    "SELECT * FROM bridgeffa_players WHERE uuid = ?",
+                    resultSet -> new BridgePlayer(uniqueId, resultSet),
+                    uniqueId.toString());
+        } catch (SQLException e) {
             e.printStackTrace();
             return null;
         }
     }
 
+    /**
+     * @return every profile currently held in memory, online or loaded for an offline lookup
+     */
+    public List<BridgePlayer> getLoadedPlayers() {
+        return new ArrayList<>(this.players.values());
+    }
+
+    /**
+     * @return live, unmodifiable view of the loaded profiles, for per-tick
+     *         iteration without copying
+     */
+    public Collection<BridgePlayer> getLoadedView() {
+        return Collections.unmodifiableCollection(this.players.values());
+    }
+
+    /**
+     * Drops a profile that is not backed by an online player, so the next
+     * lookup reloads it from the database
+     */
+    public void invalidate(UUID uuid) {
+        this.players.computeIfPresent(uuid, (id, p) -> p.getPlayer() == null || !p.getPlayer().isOnline() ? null : p);
+        this.recentlyQuit.invalidate(uuid);
+    }
+
     public void addPlayer(Player player) {
-        this.players.add(new BridgePlayer(player));
+        this.plugin.getSM().getDBManager().getUUIDCache().put(player.getName(), player.getUniqueId());
+        String uuid = player.getUniqueId().toString();
+        String name = player.getName();
+        this.plugin.getServer().getScheduler().runTaskAsynchronously(this.plugin,
+                () -> this.plugin.getSM().getDBManager().writeAtomic("player.name", List.of(
+                        SqlWrite.of(RELEASE_NAME_QUERY, name, uuid),
+                        SqlWrite.of(RECORD_NAME_QUERY, uuid, name))));
+        BridgePlayer bridgePlayer = new BridgePlayer(player);
+        bridgePlayer.updateWorld(player.getWorld());
+        this.players.put(player.getUniqueId(), bridgePlayer);
+        this.plugin.getSM().getRegionManager().update(bridgePlayer, Positions.of(player), BridgeRegionEvent.Cause.JOIN);
     }
 
     public void removePlayer(Player player) {
         BridgePlayer bridgePlayer = getPlayer(player);
         if (bridgePlayer != null) {
             saveNow(false); // Save any pending changes
-            this.players.remove(bridgePlayer);
+            this.players.remove(bridgePlayer.getUUID(), bridgePlayer);
+            this.recentlyQuit.put(bridgePlayer.getUUID(), bridgePlayer);
+            this.plugin.getServer().getScheduler().runTaskAsynchronously(this.plugin,
+                    () -> flushStats(List.of(bridgePlayer)));
         }
     }
 
@@ -106,18 +178,10 @@ public class PlayerManager {
     }
 
     private void save(UUID uuid, Object key, Object value) {
-        this.plugin.getSM().getDBManager().getConnection().thenAccept(connection -> {
-            try (PreparedStatement ps = connection.prepareStatement(
-                    String.format("INSERT INTO bridgeffa_players(uuid, %s) VALUES(?, ?) ON DUPLICATE KEY UPDATE %s = ?;",
-                            key, key))) {
-                ps.setString(1, uuid.toString());
-                ps.setObject(2, value);
-                ps.setObject(3, value);
-                ps.executeUpdate();
-            } catch (SQLException ex) {
-                ex.printStackTrace();
-            }
-        });
+        this.plugin.getSM().getDBManager().write("player.save." + key,
+                String.format("INSERT INTO bridgeffa_players(uuid, %s) VALUES(?, ?) ON DUPLICATE KEY UPDATE %s = ?;",
+                        key, key),
+                uuid.toString(), value, value);
     }
 
     public void saveNow(boolean async) {
@@ -147,6 +211,65 @@ public class PlayerManager {
         }.runTaskTimerAsynchronously((Plugin) this.plugin, 200L, 1200L);
     }
 
+    /**
+     * Writes the accumulated kill/death deltas of the given players as one
+     * batch of relative updates, so concurrent writers never overwrite each other.
+     * If the database is down the batch goes to the write journal instead.
+     * <p>
+     * Like the coin ledger, each flush is keyed: it claims a marker row under a
+     * fresh batch id and only adds its deltas while that marker is unapplied,
+     * all in one transaction. Replaying a flush that already committed
+     * therefore changes nothing. Applied markers are pruned after a week.
+     */
+    public void flushStats(Collection<BridgePlayer> targets) {
+        String batchId = UUID.randomUUID().toString();
+        List<Object[]> rows = new ArrayList<>();
+        for (BridgePlayer player : targets) {
+            BridgePlayer.StatDelta delta = player.drainStatDelta();
+            if (delta.isEmpty())
+                continue;
+            rows.add(new Object[] {
+                    player.getUUID().toString(),
+                    delta.kills(), delta.deaths(), delta.bestStreak(),
+                    batchId,
+                    delta.kills(), delta.deaths(), delta.bestStreak()
+            });
+        }
+        if (rows.isEmpty())
+            return;
+        long now = System.currentTimeMillis();
+        this.plugin.getSM().getDBManager().writeAtomic("stats.flush", List.of(
+                SqlWrite.of(CLAIM_STAT_FLUSH_QUERY, batchId, now),
+                new SqlWrite(FLUSH_STATS_QUERY, rows),
+                SqlWrite.of(MARK_STAT_FLUSH_QUERY, batchId),
+                SqlWrite.of(PRUNE_STAT_FLUSHES_QUERY, now - STAT_FLUSH_RETENTION_MILLIS)));
+    }
+
+    public void flushStats() {
+        flushStats(this.players.values());
+    }
+
+    private void startStatsFlushTask() {
+        new BukkitRunnable() {
+            @Override
+            public void run() {
+                PlayerManager.this.flushStats();
+            }
+        }.runTaskTimerAsynchronously((Plugin) this.plugin, 100L, 200L);
+    }
+
+    /**
+     * Clears hourly earnings buckets that fell out of the window
+     */
+    private void startEarningsRollTask() {
+        new BukkitRunnable() {
+            @Override
+            public void run() {
+                PlayerManager.this.players.values().forEach(player -> player.getEarningsWindow().roll());
+            }
+        }.runTaskTimerAsynchronously((Plugin) this.plugin, 1200L, 1200L);
+    }
+
     public SoundSettings getSoundSettings(UUID uniqueId) {
         return soundSettings;
     }
@@ -0,0 +1,302 @@
+package gg.azura.bridges.services;
+
+import gg.azura.bridges.BridgePlayer;
+import gg.azura.bridges.Bridges;
+import gg.azura.bridges.utils.Positions;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in heatmap of where FFA players spend their time, per chunk.
+ * <p>
+ * A main-thread task reads the position of every player in an FFA world
+ * outside spawn at a fixed interval and packs world and chunk into one
+ * {@code long} in a ring buffer, so sampling costs a few array writes per
+ * player and nothing runs on the move path. A background thread drains the
+ * buffer into per-world chunk histograms and periodically writes them to
+ * {@value #FILE_NAME}; if it falls a full buffer behind the oldest samples
+ * are dropped and counted.
+ */
+public class PositionSampler {
+
+    private static final String FILE_NAME = "heatmap.bin";
+    private static final int FILE_MAGIC = 0x42464848; // "BFHH"
+    private static final int FILE_VERSION = 1;
+    private static final int CAPACITY = 1 << 14;
+    private static final long DRAIN_SECONDS = 5L;
+    private static final long SAVE_SECONDS = 60L;
+
+    /**
+     * One chunk of the histogram
+     */
+    public record Cell(int chunkX, int chunkZ, long samples) {
+    }
+
+    private final Bridges plugin;
+    private final File file;
+    private long intervalTicks;
+    private final ScheduledExecutorService executor;
+
+    // written by the main thread only, published through head
+    private final long[] ring = new long[CAPACITY];
+    private final AtomicLong head = new AtomicLong();
+    private long tail;
+
+    // world index -> name; indexes are assigned on the main thread
+    private final List<String> worldNames = new CopyOnWriteArrayList<>();
+    private final Map<String, Integer> worldIndex = new HashMap<>();
+
+    // sampler thread only
+    private final Map<String, Map<Long, long[]>> histograms = new HashMap<>();
+    private boolean dirty;
+
+    private final LongAdder dropped = new LongAdder();
+    private volatile BukkitTask task;
+
+    public PositionSampler(Bridges plugin, Variables variables) {
+        this.plugin = plugin;
+        this.file = new File(plugin.getDataFolder(), FILE_NAME);
+        this.intervalTicks = variables.getFfaConfig().samplerIntervalTicks();
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "Position-Sampler");
+            t.setDaemon(true);
+            return t;
+        });
+        this.executor.execute(this::load);
+        this.executor.scheduleWithFixedDelay(this::drain, DRAIN_SECONDS, DRAIN_SECONDS, TimeUnit.SECONDS);
+        this.executor.scheduleWithFixedDelay(this::save, SAVE_SECONDS, SAVE_SECONDS, TimeUnit.SECONDS);
+        if (variables.getFfaConfig().samplerEnabled())
+            setEnabled(true);
+    }
+
+    public boolean isEnabled() {
+        return this.task != null;
+    }
+
+    /**
+     * Starts or stops sampling. Main thread only.
+     */
+    public void setEnabled(boolean enabled) {
+        if (enabled && this.task == null) {
+            this.task = this.plugin.getServer().getScheduler().runTaskTimer(this.plugin, this::sample,
+                    this.intervalTicks, this.intervalTicks);
+        } else if (!enabled && this.task != null) {
+            this.task.cancel();
+            this.task = null;
+        }
+    }
+
+    /**
+     * Changes the sampling interval, restarting the task if it runs. Main thread only.
+     */
+    public void setIntervalTicks(long intervalTicks) {
+        if (intervalTicks == this.intervalTicks)
+            return;
+        this.intervalTicks = intervalTicks;
+        if (this.task != null) {
+            setEnabled(false);
+            setEnabled(true);
+        }
+    }
+
+    private void sample() {
+        long next = this.head.get();
+        for (BridgePlayer user : this.plugin.getSM().getPlayerManager().getLoadedView()) {
+            if (!user.isInFFAWorld() || user.isInSpawn())
+                continue;
+            Player player = user.getPlayer();
+            if (player == null || player.isDead())
+                continue;
+            Location location = Positions.of(player);
+            World world = location.getWorld();
+            if (world == null)
+                continue;
+            this.ring[(int) (next & (CAPACITY - 1))] = pack(worldIndex(world.getName()),
+                    location.getBlockX() >> 4, location.getBlockZ() >> 4);
+            next++;
+        }
+        this.head.lazySet(next);
+    }
+
+    private int worldIndex(String name) {
+        Integer index = this.worldIndex.get(name);
+        if (index == null) {
+            index = this.worldNames.size();
+            this.worldNames.add(name);
+            this.worldIndex.put(name, index);
+        }
+        return index;
+    }
+
+    private void drain() {
+        long end = this.head.get();
+        if (end - this.tail > CAPACITY) {
+            this.dropped.add(end - this.tail - CAPACITY);
+            this.tail = end - CAPACITY;
+        }
+        for (; this.tail < end; this.tail++) {
+            long sample = this.ring[(int) (this.tail & (CAPACITY - 1))];
+            String world = this.worldNames.get(worldOf(sample));
+            this.histograms.computeIfAbsent(world, w -> new HashMap<>())
+                    .computeIfAbsent(sample & 0xFFFFFFFFFFFFL, k -> new long[1])[0]++;
+            this.dirty = true;
+        }
+    }
+
+    /**
+     * @return the busiest chunks of a world, busiest first
+     */
+    public CompletableFuture<List<Cell>> top(String world, int limit) {
+        return CompletableFuture.supplyAsync(() -> {
+            drain();
+            Map<Long, long[]> histogram = this.histograms.getOrDefault(world, Map.of());
+            return histogram.entrySet().stream()
+                    .sorted(Comparator.comparingLong((Map.Entry<Long, long[]> e) -> e.getValue()[0]).reversed())
+                    .limit(limit)
+                    .map(e -> new Cell(chunkXOf(e.getKey()), chunkZOf(e.getKey()), e.getValue()[0]))
+                    .toList();
+        }, this.executor);
+    }
+
+    /**
+     * @return total samples per world
+     */
+    public CompletableFuture<Map<String, Long>> totals() {
+        return CompletableFuture.supplyAsync(() -> {
+            drain();
+            Map<String, Long> totals = new HashMap<>();
+            this.histograms.forEach((world, histogram) ->
+                    totals.put(world, histogram.values().stream().mapToLong(c -> c[0]).sum()));
+            return totals;
+        }, this.executor);
+    }
+
+    /**
+     * Clears the histograms of one world, or all of them if {@code world} is null
+     */
+    public CompletableFuture<Void> reset(String world) {
+        return CompletableFuture.runAsync(() -> {
+            drain();
+            if (world == null)
+                this.histograms.clear();
+            else
+                this.histograms.remove(world);
+            this.dirty = true;
+            save();
+        }, this.executor);
+    }
+
+    public long getDropped() {
+        return this.dropped.sum();
+    }
+
+    /**
+     * Stops sampling and writes the histograms. Main thread only.
+     */
+    public void shutdown() {
+        setEnabled(false);
+        this.executor.execute(() -> {
+            drain();
+            save();
+        });
+        this.executor.shutdown();
+        try {
+            this.executor.awaitTermination(5L, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void save() {
+        drain();
+        if (!this.dirty)
+            return;
+        File temp = new File(this.file.getParentFile(), FILE_NAME + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+            out.writeInt(FILE_MAGIC);
+            out.writeInt(FILE_VERSION);
+            out.writeInt(this.histograms.size());
+            for (Map.Entry<String, Map<Long, long[]>> world : this.histograms.entrySet()) {
+                out.writeUTF(world.getKey());
+                out.writeInt(world.getValue().size());
+                for (Map.Entry<Long, long[]> cell : world.getValue().entrySet()) {
+                    out.writeInt(chunkXOf(cell.getKey()));
+                    out.writeInt(chunkZOf(cell.getKey()));
+                    out.writeLong(cell.getValue()[0]);
+                }
+            }
+        } catch (IOException e) {
+            this.plugin.getLogger().warning("[HEATMAP] Failed to write " + FILE_NAME + ": " + e.getMessage());
+            return;
+        }
+        try {
+            Files.move(temp.toPath(), this.file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            this.dirty = false;
+        } catch (IOException e) {
+            this.plugin.getLogger().warning("[HEATMAP] Failed to replace " + FILE_NAME + ": " + e.getMessage());
+        }
+    }
+
+    private void load() {
+        if (!this.file.isFile())
+            return;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(this.file)))) {
+            if (in.readInt() != FILE_MAGIC || in.readInt() != FILE_VERSION) {
+                this.plugin.getLogger().warning("[HEATMAP] Ignoring " + FILE_NAME + ": unknown format");
+                return;
+            }
+            int worlds = in.readInt();
+            for (int w = 0; w < worlds; w++) {
+                Map<Long, long[]> histogram = this.histograms.computeIfAbsent(in.readUTF(), k -> new HashMap<>());
+                int cells = in.readInt();
+                for (int c = 0; c < cells; c++) {
+                    long key = pack(0, in.readInt(), in.readInt());
+                    histogram.computeIfAbsent(key, k -> new long[1])[0] += in.readLong();
+                }
+            }
+        } catch (IOException e) {
+            this.plugin.getLogger().warning("[HEATMAP] Failed to read " + FILE_NAME + ": " + e.getMessage());
+        }
+    }
+
+    // 16 bits world index, 24 bits chunk x, 24 bits chunk z
+    private static long pack(int world, int chunkX, int chunkZ) {
+        return ((long) world << 48) | ((long) (chunkX & 0xFFFFFF) << 24) | (chunkZ & 0xFFFFFF);
+    }
+
+    private static int worldOf(long sample) {
+        return (int) (sample >>> 48);
+    }
+
+    private static int chunkXOf(long sample) {
+        return ((int) (sample >>> 24) << 8) >> 8;
+    }
+
+    private static int chunkZOf(long sample) {
+        return ((int) sample << 8) >> 8;
+    }
+}
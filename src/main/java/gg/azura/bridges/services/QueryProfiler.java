@@ -0,0 +1,208 @@
+package gg.azura.bridges.services;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import gg.azura.bridges.Bridges;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-statement latency profile for the storage layer.
+ * <p>
+ * Every named statement keeps call, row and error counters plus a ring of its
+ * most recent latencies, from which rolling percentiles are computed on demand.
+ * Statements slower than the configured threshold are written to
+ * {@code slow-queries.log} as JSON lines with the shapes (types and lengths)
+ * of their bound parameters, never the values themselves.
+ */
+public class QueryProfiler {
+
+    private static final int SAMPLE_WINDOW = 1024;
+
+    private final Bridges plugin;
+    private final long slowThresholdNanos;
+    private final File slowLogFile;
+    private final Map<String, StatementStats> statements;
+    private final ExecutorService slowLogWriter;
+
+    public QueryProfiler(Bridges plugin, long slowThresholdMillis) {
+        this.plugin = plugin;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+        this.slowLogFile = new File(plugin.getDataFolder(), "slow-queries.log");
+        this.statements = new ConcurrentHashMap<>();
+        this.slowLogWriter = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "DB-SlowLog");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Records one execution of a named statement
+     *
+     * @param statement Stable statement name, e.g. {@code stats.flush}
+     * @param sql       The SQL that was executed
+     * @param params    Bound parameters of the (first) row, used for the slow log only
+     * @param nanos     Wall time of the execution
+     * @param rows      Rows returned or affected
+     * @param failed    Whether the execution threw
+     */
+    public void record(String statement, String sql, Object[] params, long nanos, int rows, boolean failed) {
+        StatementStats stats = this.statements.computeIfAbsent(statement, StatementStats::new);
+        stats.record(nanos, rows, failed);
+
+        if (nanos >= this.slowThresholdNanos) {
+            String line = slowLogLine(statement, sql, params, nanos, rows, failed);
+            try {
+                this.slowLogWriter.execute(() -> appendSlowLog(line));
+            } catch (RejectedExecutionException e) {
+                // Queries still running during shutdown are not worth a log line
+            }
+        }
+    }
+
+    /**
+     * @return statements ordered by total time spent, most expensive first
+     */
+    public List<StatementStats> top(int limit) {
+        return this.statements.values().stream()
+                .sorted(Comparator.comparingLong(StatementStats::getTotalNanos).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public void shutdown() {
+        this.slowLogWriter.shutdown();
+    }
+
+    private String slowLogLine(String statement, String sql, Object[] params, long nanos, int rows, boolean failed) {
+        JsonObject json = new JsonObject();
+        json.addProperty("time", Instant.now().toString());
+        json.addProperty("statement", statement);
+        json.addProperty("ms", nanos / 1_000_000.0D);
+        json.addProperty("rows", rows);
+        json.addProperty("failed", failed);
+        json.addProperty("sql", sql.replaceAll("\\s+", " ").trim());
+        JsonArray shapes = new JsonArray();
+        if (params != null) {
+            for (Object param : params) {
+                shapes.add(shape(param));
+            }
+        }
+        json.add("params", shapes);
+        return json.toString();
+    }
+
+    private static String shape(Object param) {
+        if (param == null)
+            return "NULL";
+        if (param instanceof CharSequence cs)
+            return "String(" + cs.length() + ")";
+        return param.getClass().getSimpleName();
+    }
+
+    private void appendSlowLog(String line) {
+        try (BufferedWriter writer = Files.newBufferedWriter(this.slowLogFile.toPath(), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            writer.write(line);
+            writer.newLine();
+        } catch (IOException e) {
+            plugin.getLogger().warning("[PROFILER] Unable to write slow query log: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Counters and rolling latency window of a single named statement
+     */
+    public static class StatementStats {
+
+        private final String name;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final long[] samples = new long[SAMPLE_WINDOW];
+        private int sampleCount;
+        private int sampleIndex;
+        private long maxNanos;
+
+        StatementStats(String name) {
+            this.name = name;
+        }
+
+        void record(long nanos, int rowCount, boolean failed) {
+            calls.increment();
+            rows.add(rowCount);
+            totalNanos.add(nanos);
+            if (failed)
+                errors.increment();
+            synchronized (this) {
+                samples[sampleIndex] = nanos;
+                sampleIndex = (sampleIndex + 1) % SAMPLE_WINDOW;
+                sampleCount = Math.min(sampleCount + 1, SAMPLE_WINDOW);
+                maxNanos = Math.max(maxNanos, nanos);
+            }
+        }
+
+        /**
+         * @param percentile Percentile in the range 0-100
+         * @return latency in nanoseconds over the rolling window
+         */
+        public long percentile(double percentile) {
+            long[] window;
+            synchronized (this) {
+                if (sampleCount == 0)
+                    return 0L;
+                window = Arrays.copyOf(samples, sampleCount);
+            }
+            Arrays.sort(window);
+            int index = (int) Math.ceil(percentile / 100.0D * window.length) - 1;
+            return window[Math.max(0, Math.min(index, window.length - 1))];
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getCalls() {
+            return calls.sum();
+        }
+
+        public long getErrors() {
+            return errors.sum();
+        }
+
+        public long getRows() {
+            return rows.sum();
+        }
+
+        public long getTotalNanos() {
+            return totalNanos.sum();
+        }
+
+        public synchronized long getMaxNanos() {
+            return maxNanos;
+        }
+
+        public long getAverageNanos() {
+            long count = getCalls();
+            return count == 0 ? 0L : getTotalNanos() / count;
+        }
+    }
+}
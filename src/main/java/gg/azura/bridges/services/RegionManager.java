@@ -0,0 +1,176 @@
+package gg.azura.bridges.services;
+
+import gg.azura.bridges.BridgePlayer;
+import gg.azura.bridges.Bridges;
+import gg.azura.bridges.events.BridgeRegionEnterEvent;
+import gg.azura.bridges.events.BridgeRegionEvent;
+import gg.azura.bridges.events.BridgeRegionLeaveEvent;
+import gg.azura.bridges.ffa.Region;
+import gg.azura.bridges.ffa.SpawnRegion;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tracks which {@link Region}s every player is in and fires
+ * {@link BridgeRegionEnterEvent} / {@link BridgeRegionLeaveEvent} on the edges.
+ * <p>
+ * Configured regions are indexed by the chunks they overlap, per world. A
+ * player's {@link Tracker} keeps the region list of the chunk they are in, so
+ * a block change inside the same chunk tests the built-in regions plus that
+ * list, which is usually empty or a single entry, and allocates nothing
+ * unless an edge is crossed.
+ * <p>
+ * Main thread only.
+ */
+public class RegionManager {
+
+    private final Bridges plugin;
+    private volatile Index index;
+
+    private record Index(List<Region> global, Map<String, Map<Long, List<Region>>> chunks, List<Region> all) {
+        List<Region> inChunk(World world, int chunkX, int chunkZ) {
+            Map<Long, List<Region>> byChunk = world == null ? null : chunks.get(world.getName());
+            if (byChunk == null)
+                return Collections.emptyList();
+            return byChunk.getOrDefault(chunkKey(chunkX, chunkZ), Collections.emptyList());
+        }
+    }
+
+    /**
+     * Per-player region state, owned by {@link BridgePlayer}
+     */
+    public static final class Tracker {
+        private final List<Region> current = new ArrayList<>(4);
+        private Index index;
+        private World world;
+        private int chunkX;
+        private int chunkZ;
+        private List<Region> chunkRegions = Collections.emptyList();
+
+        public boolean isIn(String name) {
+            for (int i = 0; i < current.size(); i++) {
+                if (current.get(i).is(name))
+                    return true;
+            }
+            return false;
+        }
+    }
+
+    public RegionManager(Bridges plugin, Variables variables) {
+        this.plugin = plugin;
+        compile(variables.getFfaConfig());
+    }
+
+    /**
+     * Rebuilds the region index from a configuration snapshot. Players keep
+     * their state and see the edges on their next {@link #update}.
+     */
+    public void compile(FfaConfig config) {
+        List<Region> global = List.of(
+                new Region(Region.SPAWN, null, false, config.spawnRegion()),
+                new Region(Region.ARENA, null, true, new SpawnRegion.Box(
+                        Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE, config.activateY() - 1,
+                        Integer.MIN_VALUE, Integer.MAX_VALUE)),
+                new Region(Region.VOID, null, true, new SpawnRegion.Box(
+                        Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE, config.deathY() - 1,
+                        Integer.MIN_VALUE, Integer.MAX_VALUE)));
+
+        Map<String, Map<Long, List<Region>>> chunks = new HashMap<>();
+        for (Region region : config.regions()) {
+            SpawnRegion.Box box = (SpawnRegion.Box) region.shape();
+            Map<Long, List<Region>> byChunk = chunks.computeIfAbsent(region.world(), w -> new HashMap<>());
+            for (int cx = box.minX() >> 4; cx <= box.maxX() >> 4; cx++) {
+                for (int cz = box.minZ() >> 4; cz <= box.maxZ() >> 4; cz++)
+                    byChunk.computeIfAbsent(chunkKey(cx, cz), k -> new ArrayList<>(1)).add(region);
+            }
+        }
+        chunks.values().forEach(byChunk -> byChunk.replaceAll((k, list) -> List.copyOf(list)));
+
+        List<Region> all = new ArrayList<>(global);
+        all.addAll(config.regions());
+        this.index = new Index(global, chunks, List.copyOf(all));
+    }
+
+    /**
+     * @return every region, built-in ones first
+     */
+    public List<Region> getRegions() {
+        return this.index.all();
+    }
+
+    /**
+     * Moves the player's region state and cached block Y to {@code to} and
+     * fires an event for every region left, then every region entered
+     */
+    public void update(BridgePlayer user, Location to, BridgeRegionEvent.Cause cause) {
+        Index index = this.index;
+        Tracker tracker = user.getRegionTracker();
+        World world = to.getWorld();
+        int x = to.getBlockX();
+        int y = to.getBlockY();
+        int z = to.getBlockZ();
+        user.setBlockY(y);
+        boolean ffaWorld = this.plugin.getSM().getVariables().getFfaConfig().isFFAWorld(world);
+
+        boolean recompiled = tracker.index != index;
+        if (recompiled || tracker.world != world || tracker.chunkX != x >> 4 || tracker.chunkZ != z >> 4) {
+            tracker.index = index;
+            tracker.world = world;
+            tracker.chunkX = x >> 4;
+            tracker.chunkZ = z >> 4;
+            tracker.chunkRegions = index.inChunk(world, x >> 4, z >> 4);
+        }
+
+        List<Region> current = tracker.current;
+        List<Region> left = null;
+        for (int i = current.size() - 1; i >= 0; i--) {
+            Region region = current.get(i);
+            if ((recompiled && !index.all().contains(region)) || !region.contains(world, ffaWorld, x, y, z)) {
+                current.remove(i);
+                if (left == null)
+                    left = new ArrayList<>(2);
+                left.add(region);
+            }
+        }
+        List<Region> entered = enter(current, index.global(), null, world, ffaWorld, x, y, z);
+        entered = enter(current, tracker.chunkRegions, entered, world, ffaWorld, x, y, z);
+
+        if (left == null && entered == null)
+            return;
+        user.setInSpawn(tracker.isIn(Region.SPAWN));
+        if (user.getPlayer() == null)
+            return;
+        if (left != null) {
+            for (Region region : left)
+                this.plugin.getServer().getPluginManager().callEvent(new BridgeRegionLeaveEvent(user, region, cause));
+        }
+        if (entered != null) {
+            for (Region region : entered)
+                this.plugin.getServer().getPluginManager().callEvent(new BridgeRegionEnterEvent(user, region, cause));
+        }
+    }
+
+    private static List<Region> enter(List<Region> current, List<Region> candidates, List<Region> entered,
+                                      World world, boolean ffaWorld, int x, int y, int z) {
+        for (int i = 0; i < candidates.size(); i++) {
+            Region region = candidates.get(i);
+            if (region.contains(world, ffaWorld, x, y, z) && !current.contains(region)) {
+                current.add(region);
+                if (entered == null)
+                    entered = new ArrayList<>(2);
+                entered.add(region);
+            }
+        }
+        return entered;
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+}
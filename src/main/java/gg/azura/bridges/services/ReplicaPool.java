@@ -0,0 +1,209 @@
+package gg.azura.bridges.services;
+
+import gg.azura.bridges.Bridges;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Small connection pool for the optional read-only replica.
+ * <p>
+ * Only reads that tolerate slightly stale data are sent here. The pool has its
+ * own circuit breaker, so an unreachable replica never affects the primary, and
+ * it tracks replication lag so reads go back to the primary while the replica
+ * is further behind than {@code maxLagSeconds}.
+ */
+public class ReplicaPool {
+
+    private static final int MAX_POOL_SIZE = 5;
+    private static final long CONNECTION_TIMEOUT = 2000L; // 2 seconds
+    private static final int VALIDATION_TIMEOUT = 1; // seconds
+    private static final long LAG_UNKNOWN = -1L;
+
+    private final Bridges plugin;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final long maxLagSeconds;
+    private final BlockingQueue<Connection> idle;
+    private final AtomicInteger open;
+    private final CircuitBreaker circuitBreaker;
+    private volatile long lagSeconds;
+    private volatile boolean lagWarningLogged;
+
+    public ReplicaPool(Bridges plugin, String url, String username, String password, long maxLagSeconds) {
+        this.plugin = plugin;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.maxLagSeconds = maxLagSeconds;
+        this.idle = new ArrayBlockingQueue<>(MAX_POOL_SIZE);
+        this.open = new AtomicInteger();
+        this.circuitBreaker = new CircuitBreaker(3, 30000L);
+        this.lagSeconds = LAG_UNKNOWN;
+    }
+
+    /**
+     * Runs read-only work on a replica connection behind the replica's own breaker
+     */
+    public <T> T withConnection(DatabaseManager.SqlFunction<T> work) throws SQLException {
+        if (!circuitBreaker.allowRequest()) {
+            throw new SQLException("Replica circuit breaker is open");
+        }
+
+        Connection conn = null;
+        try {
+            conn = acquire();
+            T result = work.apply(conn);
+            circuitBreaker.recordSuccess();
+            return result;
+        } catch (SQLException e) {
+            circuitBreaker.recordFailure();
+            closeQuietly(conn);
+            conn = null;
+            throw e;
+        } finally {
+            release(conn);
+        }
+    }
+
+    /**
+     * @return true if the replica is close enough to the primary to serve reads
+     */
+    public boolean isWithinLag() {
+        long lag = this.lagSeconds;
+        return lag >= 0L && lag <= this.maxLagSeconds;
+    }
+
+    /**
+     * Refreshes the replication lag. An instance that is not replicating at all
+     * (e.g. a second local database used for testing) reports no lag.
+     */
+    public void checkLag() {
+        try {
+            this.lagSeconds = withConnection(conn -> {
+                try {
+                    return readLag(conn, "SHOW REPLICA STATUS", "Seconds_Behind_Source");
+                } catch (SQLException e) {
+                    // MySQL before 8.0.22
+                    return readLag(conn, "SHOW SLAVE STATUS", "Seconds_Behind_Master");
+                }
+            });
+            this.lagWarningLogged = false;
+        } catch (SQLException e) {
+            this.lagSeconds = LAG_UNKNOWN;
+            if (!this.lagWarningLogged) {
+                this.lagWarningLogged = true;
+                plugin.getLogger().warning("[REPLICA] Unable to read replication lag, reads stay on the primary: "
+                        + e.getMessage());
+            }
+        }
+    }
+
+    private static long readLag(Connection conn, String sql, String column) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+            if (!rs.next()) {
+                return 0L;
+            }
+            long lag = rs.getLong(column);
+            // NULL means replication is stopped or broken
+            return rs.wasNull() ? Long.MAX_VALUE : lag;
+        }
+    }
+
+    private Connection acquire() throws SQLException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(CONNECTION_TIMEOUT);
+        while (true) {
+            Connection conn;
+            while ((conn = idle.poll()) != null) {
+                if (isUsable(conn)) {
+                    return conn;
+                }
+                closeQuietly(conn);
+            }
+
+            if (open.incrementAndGet() <= MAX_POOL_SIZE) {
+                try {
+                    conn = DriverManager.getConnection(url, username, password);
+                    conn.setReadOnly(true);
+                    return conn;
+                } catch (SQLException e) {
+                    open.decrementAndGet();
+                    throw e;
+                }
+            }
+            open.decrementAndGet();
+
+            long remaining = deadline - System.nanoTime();
+            try {
+                conn = remaining > 0L ? idle.poll(remaining, TimeUnit.NANOSECONDS) : null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted while waiting for replica connection", e);
+            }
+            if (conn == null) {
+                throw new SQLException("Unable to acquire replica connection");
+            }
+            if (isUsable(conn)) {
+                return conn;
+            }
+            // Closing it frees a slot, so the next round can open a fresh one
+            closeQuietly(conn);
+        }
+    }
+
+    private boolean isUsable(Connection conn) {
+        try {
+            return !conn.isClosed() && conn.isValid(VALIDATION_TIMEOUT);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void release(Connection conn) {
+        if (conn != null && !idle.offer(conn)) {
+            closeQuietly(conn);
+        }
+    }
+
+    private void closeQuietly(Connection conn) {
+        if (conn == null) {
+            return;
+        }
+        open.decrementAndGet();
+        try {
+            conn.close();
+        } catch (SQLException ignored) {
+        }
+    }
+
+    public void close() {
+        Connection conn;
+        while ((conn = idle.poll()) != null) {
+            closeQuietly(conn);
+        }
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * @return replication lag in seconds, -1 if unknown, {@link Long#MAX_VALUE} if replication is stopped
+     */
+    public long getLagSeconds() {
+        return lagSeconds;
+    }
+
+    public int getOpenConnections() {
+        return open.get();
+    }
+}
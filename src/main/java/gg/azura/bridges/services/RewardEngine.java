@@ -0,0 +1,109 @@
+package gg.azura.bridges.services;
+
+import gg.azura.bridges.BridgePlayer;
+import org.bukkit.World;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Computes and pays kill rewards.
+ * <p>
+ * The reward rules are compiled from {@link FfaConfig} into a table once:
+ * streak bonuses become an array indexed by streak length and world
+ * multipliers a hash lookup, so a kill is evaluated against the killer's
+ * in-memory combat state without any I/O. The payout is credited to the
+ * atomic balance as a single ledger entry, which the {@link LedgerWriter}
+ * commits in the background.
+ */
+public class RewardEngine {
+
+    public enum Rule {
+        KILL,
+        FIRST_BLOOD,
+        STREAK
+    }
+
+    /**
+     * Outcome of one kill: the coins paid per rule, after the world multiplier
+     */
+    public record Payout(long kill, long firstBlood, long streak) {
+        public long total() {
+            return kill + firstBlood + streak;
+        }
+    }
+
+    private volatile Table table;
+
+    private final LongAdder[] fired = new LongAdder[Rule.values().length];
+    private final LongAdder[] paid = new LongAdder[Rule.values().length];
+
+    private record Table(int killReward, int firstBloodReward, int[] streakBonus, Map<String, Double> worldMultipliers) {
+        int streakBonus(int streak) {
+            return streak < streakBonus.length ? streakBonus[streak] : 0;
+        }
+
+        double multiplier(World world) {
+            return world == null ? 1.0D : worldMultipliers.getOrDefault(world.getName(), 1.0D);
+        }
+    }
+
+    public RewardEngine(Variables variables) {
+        for (Rule rule : Rule.values()) {
+            fired[rule.ordinal()] = new LongAdder();
+            paid[rule.ordinal()] = new LongAdder();
+        }
+        compile(variables.getFfaConfig());
+    }
+
+    /**
+     * Rebuilds the rule table from a configuration snapshot
+     */
+    public void compile(FfaConfig config) {
+        int longest = config.streakRewards().keySet().stream().mapToInt(Integer::intValue).max().orElse(0);
+        int[] streakBonus = new int[Math.max(0, longest) + 1];
+        config.streakRewards().forEach((length, bonus) -> {
+            if (length > 0)
+                streakBonus[length] = bonus;
+        });
+        this.table = new Table(config.killReward(), config.firstBloodReward(), streakBonus, config.worldMultipliers());
+    }
+
+    /**
+     * Pays the reward for a kill that has already been recorded on the killer
+     *
+     * @param world World the kill happened in, for its multiplier
+     * @return the coins paid, per rule
+     */
+    public Payout rewardKill(BridgePlayer killer, World world) {
+        Table rules = this.table;
+        double multiplier = rules.multiplier(world);
+
+        long kill = apply(Rule.KILL, rules.killReward(), multiplier);
+        long firstBlood = killer.getSessionKills() == 1
+                ? apply(Rule.FIRST_BLOOD, rules.firstBloodReward(), multiplier) : 0L;
+        long streak = apply(Rule.STREAK, rules.streakBonus(killer.getStreak()), multiplier);
+
+        Payout payout = new Payout(kill, firstBlood, streak);
+        if (payout.total() > 0L)
+            killer.credit(payout.total());
+        return payout;
+    }
+
+    public long getFired(Rule rule) {
+        return fired[rule.ordinal()].sum();
+    }
+
+    public long getPaid(Rule rule) {
+        return paid[rule.ordinal()].sum();
+    }
+
+    private long apply(Rule rule, int reward, double multiplier) {
+        if (reward <= 0)
+            return 0L;
+        long amount = Math.round(reward * multiplier);
+        fired[rule.ordinal()].increment();
+        paid[rule.ordinal()].add(amount);
+        return amount;
+    }
+}
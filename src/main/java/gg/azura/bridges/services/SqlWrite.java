@@ -0,0 +1,15 @@
+package gg.azura.bridges.services;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One parameterised write statement and the rows to execute it with.
+ * A list of writes is executed, and journaled, as a single transaction.
+ */
+public record SqlWrite(String sql, List<Object[]> rows) {
+
+    public static SqlWrite of(String sql, Object... params) {
+        return new SqlWrite(sql, Collections.singletonList(params));
+    }
+}
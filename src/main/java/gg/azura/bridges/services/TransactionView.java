@@ -0,0 +1,103 @@
+package gg.azura.bridges.services;
+
+import gg.azura.bridges.BridgePlayer;
+import gg.azura.bridges.Bridges;
+import gg.azura.bridges.EconomyTotals;
+import gg.azura.bridges.Transaction;
+import gg.azura.bridges.TransactionHistory;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-player view of the coin ledger.
+ * <p>
+ * Lifetime totals come from the in-memory {@link EconomyTotals} of online
+ * players, otherwise from their single {@code bridgeffa_economy_totals} row;
+ * recent entries come from the cached newest page of the player's ledger.
+ * Every lookup is keyed by one player, so its cost does not grow with the
+ * number of players or transactions.
+ */
+public class TransactionView {
+
+    private final Bridges plugin;
+    private final DatabaseManager db;
+    private final BoundedCache<UUID, Totals> offlineTotals;
+
+    private record Totals(double earned, double spent) {
+        private static final Totals EMPTY = new Totals(0.0D, 0.0D);
+    }
+
+    public TransactionView(Bridges plugin, DatabaseManager db) {
+        this.plugin = plugin;
+        this.db = db;
+        this.offlineTotals = BoundedCache.<UUID, Totals>builder()
+                .name("economy-totals")
+                .maximumSize(1024)
+                .expireAfterWrite(1, TimeUnit.MINUTES)
+                .build();
+    }
+
+    /**
+     * @return lifetime coins spent by the player
+     */
+    public double getSpent(UUID playerId) {
+        BridgePlayer player = plugin.getSM().getPlayerManager().getPlayer(playerId);
+        return player != null ? player.getSpentCoins() : totals(playerId).spent();
+    }
+
+    /**
+     * @return lifetime coins earned by the player
+     */
+    public double getEarned(UUID playerId) {
+        BridgePlayer player = plugin.getSM().getPlayerManager().getPlayer(playerId);
+        return player != null ? player.getEarnedCoins() : totals(playerId).earned();
+    }
+
+    /**
+     * @return the player's newest {@code limit} transactions, newest first
+     */
+    public List<Transaction> recent(UUID playerId, int limit) {
+        if (limit <= 0)
+            return Collections.emptyList();
+        if (limit <= Transaction.RECENT_LIMIT) {
+            Collection<Transaction> cached = Transaction.getTransactions(playerId);
+            return cached.stream().limit(limit).toList();
+        }
+        try {
+            return TransactionHistory.page(playerId, TransactionHistory.FIRST_PAGE, limit).transactions();
+        } catch (SQLException e) {
+            plugin.getLogger().warning("[TRANSACTIONS] Failed to read recent transactions of " + playerId + ": " + e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Drops the cached totals of an offline player, e.g. after an admin adjustment
+     */
+    public void invalidate(UUID playerId) {
+        offlineTotals.invalidate(playerId);
+    }
+
+    private Totals totals(UUID playerId) {
+        Totals cached = offlineTotals.get(playerId);
+        if (cached != null)
+            return cached;
+        try {
+            Totals totals = db.readQueryFirst("economy.totals.view", EconomyTotals.LOAD_QUERY,
+                    rs -> new Totals(rs.getDouble("earned"), rs.getDouble("spent")), playerId.toString());
+            if (totals == null)
+                totals = Totals.EMPTY;
+            offlineTotals.put(playerId, totals);
+            return totals;
+        } catch (SQLException e) {
+            plugin.getLogger().warning("[TRANSACTIONS] Failed to load totals of " + playerId + ": " + e.getMessage());
+            Totals stale = offlineTotals.getStale(playerId);
+            return stale != null ? stale : Totals.EMPTY;
+        }
+    }
+}
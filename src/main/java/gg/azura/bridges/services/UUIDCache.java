@@ -0,0 +1,95 @@
+package gg.azura.bridges.services;
+
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded, case-insensitive name to UUID cache in front of
+ * {@link DatabaseManager#fetchUUID(String)}.
+ * <p>
+ * Unknown names are cached as negative entries with a shorter lifetime, so
+ * repeated lookups of a typo do not hit the database either. Both sides are
+ * {@link BoundedCache}s and show up in its registry.
+ */
+public class UUIDCache {
+
+    private static final int MAX_ENTRIES = 4096;
+    private static final int MAX_MISSING_ENTRIES = 1024;
+    private static final long POSITIVE_TTL_MINUTES = 30L;
+    private static final long NEGATIVE_TTL_MINUTES = 2L;
+
+    /**
+     * Cached lookup result; {@code uuid} is null for a negative entry
+     */
+    public record Entry(UUID uuid) {
+        private static final Entry MISSING = new Entry(null);
+
+        public boolean isKnown() {
+            return uuid != null;
+        }
+    }
+
+    private final BoundedCache<String, UUID> known = BoundedCache.<String, UUID>builder()
+            .name("uuid-names")
+            .maximumSize(MAX_ENTRIES)
+            .expireAfterWrite(POSITIVE_TTL_MINUTES, TimeUnit.MINUTES)
+            .build();
+    private final BoundedCache<String, Boolean> missing = BoundedCache.<String, Boolean>builder()
+            .name("uuid-names-missing")
+            .maximumSize(MAX_MISSING_ENTRIES)
+            .expireAfterWrite(NEGATIVE_TTL_MINUTES, TimeUnit.MINUTES)
+            .build();
+
+    /**
+     * @return the cached entry, or null if the name has to be looked up
+     */
+    public Entry get(String name) {
+        String key = key(name);
+        UUID uuid = this.known.get(key);
+        if (uuid != null)
+            return new Entry(uuid);
+        return this.missing.get(key) != null ? Entry.MISSING : null;
+    }
+
+    public void put(String name, UUID uuid) {
+        if (name == null || uuid == null)
+            return;
+        String key = key(name);
+        this.known.put(key, uuid);
+        this.missing.invalidate(key);
+    }
+
+    public void putMissing(String name) {
+        if (name == null)
+            return;
+        String key = key(name);
+        this.missing.put(key, Boolean.TRUE);
+        this.known.invalidate(key);
+    }
+
+    public void invalidate(String name) {
+        String key = key(name);
+        this.known.invalidate(key);
+        this.missing.invalidate(key);
+    }
+
+    public int size() {
+        return this.known.size() + this.missing.size();
+    }
+
+    public long getHits() {
+        return this.known.stats().hits() + this.missing.stats().hits();
+    }
+
+    /**
+     * @return lookups that found neither a name nor a negative entry
+     */
+    public long getMisses() {
+        return this.missing.stats().misses();
+    }
+
+    static String key(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
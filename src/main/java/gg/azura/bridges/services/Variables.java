@@ -1,13 +1,11 @@
 package gg.azura.bridges.services;
 
 import gg.azura.bridges.Bridges;
-import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.configuration.file.FileConfiguration;
 
-import java.util.Objects;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.HashMap;
+import java.util.Map;
 
 public class Variables {
 
@@ -25,47 +23,38 @@ public class Variables {
 
     public boolean mysqlSSL;
 
-    public Set<World> worlds;
+    public long slowQueryMillis;
 
-    public String deathMessageSuffix;
+    public boolean replicaEnabled;
 
-    public boolean healOnKill;
+    public String replicaHost;
 
-    public Location lobby;
+    public int replicaPort;
 
-    public double lobbyHRadius;
+    public String replicaUsername;
 
-    public double lobbyVRadius;
+    public String replicaPassword;
 
-    public String lobbyXBounds;
+    public long replicaMaxLagSeconds;
 
-    public String lobbyYBounds;
+    public long ledgerFlushMillis;
 
-    public String lobbyZBounds;
+    public int ledgerBatchSize;
 
-    public boolean overrideKillCommand;
+    public long snapshotIntervalMinutes;
 
-    public int deathY;
+    public long snapshotRetentionDays;
 
-    public int activateY;
+    public long verifyIntervalSeconds;
 
-    public String lobbyDetection;
+    public int verifySampleSize;
 
-    public boolean disableFallDamage;
+    public boolean reloadWatch;
 
-    public boolean quickRespawn;
+    private volatile FfaConfig ffaConfig;
 
     public Variables(Bridges plugin) {
-        this.deathMessageSuffix = "&7(&c%s<3&&)";
-        this.healOnKill = true;
-        this.lobbyHRadius = 20.0D;
-        this.lobbyVRadius = 6.0D;
-        this.overrideKillCommand = true;
-        this.deathY = 15;
-        this.activateY = 60;
-        this.lobbyDetection = "ycoord";
-        this.disableFallDamage = true;
-        this.quickRespawn = true;
+        this.slowQueryMillis = 100L;
         this.plugin = plugin;
         reloadConfig();
     }
@@ -81,22 +70,55 @@ public class Variables {
         this.mysqlUsername = config.getString("mysql.username");
         this.mysqlPassword = config.getString("mysql.password");
         this.mysqlSSL = config.getBoolean("mysql.ssl");
-        this.worlds = (Set<World>)config.getStringList("worlds").stream().map(s -> this.plugin.getServer().getWorld(s)).filter(Objects::nonNull).collect(Collectors.toSet());
-        this.deathMessageSuffix = this.plugin.getConfig().getString("death_message_suffix");
-        this.healOnKill = this.plugin.getConfig().getBoolean("heal_on_kill");
-        this.disableFallDamage = this.plugin.getConfig().getBoolean("disable_falldamage");
-        this.overrideKillCommand = this.plugin.getConfig().getBoolean("override_kill_command");
-        this.deathY = this.plugin.getConfig().getInt("death_y");
-        this.activateY = this.plugin.getConfig().getInt("activate_y");
-        this
-
-                .lobby = new Location(this.plugin.getServer().getWorld(Objects.requireNonNull(this.plugin.getConfig().getString("lobby.world"))), this.plugin.getConfig().getDouble("lobby.x"), this.plugin.getConfig().getDouble("lobby.y"), this.plugin.getConfig().getDouble("lobby.z"), (float)this.plugin.getConfig().getDouble("lobby.yaw"), (float)this.plugin.getConfig().getDouble("lobby.pitch"));
-        this.lobbyHRadius = this.plugin.getConfig().getDouble("lobby.hradius");
-        this.lobbyVRadius = this.plugin.getConfig().getDouble("lobby.vradius");
-        this.lobbyXBounds = this.plugin.getConfig().getString("lobby.xbounds");
-        this.lobbyYBounds = this.plugin.getConfig().getString("lobby.ybounds");
-        this.lobbyZBounds = this.plugin.getConfig().getString("lobby.zbounds");
-        this.lobbyDetection = this.plugin.getConfig().getString("lobby_detection");
-        this.quickRespawn = this.plugin.getConfig().getBoolean("quick_respawn", true);
+        this.slowQueryMillis = config.getLong("mysql.slow_query_ms", 100L);
+        this.replicaEnabled = config.getBoolean("mysql.replica.enabled", false);
+        this.replicaHost = config.getString("mysql.replica.host", this.mysqlHost);
+        this.replicaPort = config.getInt("mysql.replica.port", this.mysqlPort);
+        this.replicaUsername = config.getString("mysql.replica.username", this.mysqlUsername);
+        this.replicaPassword = config.getString("mysql.replica.password", this.mysqlPassword);
+        this.replicaMaxLagSeconds = config.getLong("mysql.replica.max_lag_seconds", 5L);
+        this.ledgerFlushMillis = Math.max(1L, config.getLong("ledger.flush_interval_ms", 50L));
+        this.ledgerBatchSize = Math.max(1, config.getInt("ledger.batch_size", 256));
+        this.snapshotIntervalMinutes = Math.max(1L, config.getLong("ledger.snapshot_interval_minutes", 10L));
+        this.snapshotRetentionDays = Math.max(1L, config.getLong("ledger.snapshot_retention_days", 30L));
+        this.verifyIntervalSeconds = Math.max(1L, config.getLong("ledger.verify.interval_seconds", 30L));
+        this.verifySampleSize = Math.max(0, config.getInt("ledger.verify.sample_size", 5));
+        this.reloadWatch = config.getBoolean("reload.watch", false);
+        this.ffaConfig = FfaConfig.parse(config, loadedWorlds(), this::warning);
+    }
+
+    /**
+     * @return the current gameplay settings; take it once per event
+     */
+    public FfaConfig getFfaConfig() {
+        return this.ffaConfig;
+    }
+
+    /**
+     * Replaces the gameplay settings. Main thread only.
+     */
+    public void publish(FfaConfig config) {
+        this.ffaConfig = config;
+    }
+
+    /**
+     * @return the loaded worlds by name, for {@link FfaConfig#parse}. Main thread only.
+     */
+    public Map<String, World> loadedWorlds() {
+        Map<String, World> worlds = new HashMap<>();
+        for (World world : this.plugin.getServer().getWorlds())
+            worlds.put(world.getName(), world);
+        return worlds;
+    }
+
+    public void warning(String message) {
+        this.plugin.getLogger().warning("[CONFIG] " + message);
+    }
+
+    /**
+     * Adds a world that was loaded after the config if it is an FFA world
+     */
+    public void worldLoaded(World world) {
+        publish(this.ffaConfig.withLoadedWorld(world));
     }
 }
@@ -0,0 +1,277 @@
+package gg.azura.bridges.services;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import gg.azura.bridges.Bridges;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local append-only journal for database writes that could not be executed
+ * while the database was unavailable.
+ * <p>
+ * Appends are queued in memory and written by a single journal thread, which
+ * groups everything queued since its last run into one write and one fsync.
+ * Replays run on the same thread, so they always see every earlier append and
+ * re-apply the entries in the order they were recorded.
+ */
+public class WriteJournal {
+
+    private static final long FSYNC_INTERVAL_MS = 50L;
+
+    private final Bridges plugin;
+    private final Path file;
+    private final BlockingQueue<String> pending;
+    private final AtomicInteger backlog;
+    private final ScheduledExecutorService executor;
+    private FileChannel channel;
+
+    @FunctionalInterface
+    public interface ReplayHandler {
+        void apply(List<SqlWrite> writes) throws SQLException;
+    }
+
+    public WriteJournal(Bridges plugin, File file) {
+        this.plugin = plugin;
+        this.file = file.toPath();
+        this.pending = new LinkedBlockingQueue<>();
+        this.backlog = new AtomicInteger();
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "DB-Journal");
+            t.setDaemon(true);
+            return t;
+        });
+
+        try {
+            Files.createDirectories(this.file.getParent());
+            if (Files.exists(this.file)) {
+                // Entries left over from a previous run still have to be replayed
+                try (var lines = Files.lines(this.file, StandardCharsets.UTF_8)) {
+                    this.backlog.set((int) lines.filter(line -> !line.isBlank()).count());
+                }
+            }
+            openChannel();
+        } catch (IOException e) {
+            plugin.getLogger().severe("[JOURNAL] Unable to open write journal " + this.file + ": " + e.getMessage());
+        }
+
+        this.executor.scheduleWithFixedDelay(this::drain, FSYNC_INTERVAL_MS, FSYNC_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Records a group of writes to be replayed, as one transaction, once the
+     * database is reachable again
+     */
+    public void append(List<SqlWrite> writes) {
+        JsonArray jsonWrites = new JsonArray();
+        for (SqlWrite write : writes) {
+            JsonObject jsonWrite = new JsonObject();
+            jsonWrite.addProperty("sql", write.sql());
+            JsonArray jsonRows = new JsonArray();
+            for (Object[] row : write.rows()) {
+                JsonArray jsonRow = new JsonArray();
+                for (Object value : row) {
+                    jsonRow.add(encode(value));
+                }
+                jsonRows.add(jsonRow);
+            }
+            jsonWrite.add("rows", jsonRows);
+            jsonWrites.add(jsonWrite);
+        }
+        JsonObject json = new JsonObject();
+        json.add("writes", jsonWrites);
+
+        this.backlog.incrementAndGet();
+        this.pending.offer(json.toString());
+    }
+
+    /**
+     * @return number of journaled writes that have not been replayed yet
+     */
+    public int getBacklog() {
+        return this.backlog.get();
+    }
+
+    public long getFileSize() {
+        try {
+            return Files.exists(this.file) ? Files.size(this.file) : 0L;
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    /**
+     * Replays the journal in order on the journal thread. Replay stops at the
+     * first failing entry; that entry and everything after it stay journaled.
+     *
+     * @return future completed with the number of entries applied
+     */
+    public CompletableFuture<Integer> replay(ReplayHandler handler) {
+        return CompletableFuture.supplyAsync(() -> doReplay(handler), this.executor);
+    }
+
+    public void close() {
+        try {
+            this.executor.submit(this::drain).get(5, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            plugin.getLogger().warning("[JOURNAL] Final journal flush failed: " + e.getMessage());
+        }
+        this.executor.shutdown();
+        try {
+            if (this.channel != null) {
+                this.channel.close();
+            }
+        } catch (IOException ignored) {
+        }
+    }
+
+    /**
+     * Writes every queued entry and fsyncs once for the whole group
+     */
+    private void drain() {
+        if (this.pending.isEmpty() || this.channel == null) {
+            return;
+        }
+        List<String> batch = new ArrayList<>();
+        this.pending.drainTo(batch);
+
+        StringBuilder sb = new StringBuilder();
+        batch.forEach(line -> sb.append(line).append('\n'));
+        ByteBuffer buffer = ByteBuffer.wrap(sb.toString().getBytes(StandardCharsets.UTF_8));
+        try {
+            while (buffer.hasRemaining()) {
+                this.channel.write(buffer);
+            }
+            this.channel.force(false);
+        } catch (IOException e) {
+            plugin.getLogger().severe("[JOURNAL] Failed to write " + batch.size() + " entries: " + e.getMessage());
+        }
+    }
+
+    private int doReplay(ReplayHandler handler) {
+        drain();
+        List<String> lines;
+        try {
+            lines = Files.exists(this.file)
+                    ? Files.readAllLines(this.file, StandardCharsets.UTF_8)
+                    : List.of();
+        } catch (IOException e) {
+            plugin.getLogger().severe("[JOURNAL] Unable to read journal for replay: " + e.getMessage());
+            return 0;
+        }
+
+        int applied = 0;
+        int index = 0;
+        for (; index < lines.size(); index++) {
+            String line = lines.get(index);
+            if (line.isBlank()) {
+                continue;
+            }
+            List<SqlWrite> writes = new ArrayList<>();
+            try {
+                JsonObject json = JsonParser.parseString(line).getAsJsonObject();
+                for (JsonElement jsonWrite : json.getAsJsonArray("writes")) {
+                    writes.add(decodeWrite(jsonWrite.getAsJsonObject()));
+                }
+            } catch (RuntimeException e) {
+                // A corrupt line can never succeed, so skip it instead of blocking the journal
+                plugin.getLogger().severe("[JOURNAL] Dropping unreadable entry " + index + ": " + e.getMessage());
+                applied++;
+                continue;
+            }
+            try {
+                handler.apply(writes);
+                applied++;
+            } catch (SQLException | RuntimeException e) {
+                plugin.getLogger().warning("[JOURNAL] Replay paused at entry " + index + ": " + e.getMessage());
+                break;
+            }
+        }
+
+        try {
+            rewrite(lines.subList(index, lines.size()));
+        } catch (IOException e) {
+            plugin.getLogger().severe("[JOURNAL] Unable to compact journal after replay: " + e.getMessage());
+        }
+        this.backlog.addAndGet(-applied);
+        if (applied > 0) {
+            plugin.getLogger().info("[JOURNAL] Replayed " + applied + " journaled writes | Remaining: " + getBacklog());
+        }
+        return applied;
+    }
+
+    private void rewrite(List<String> remaining) throws IOException {
+        this.channel.close();
+        Path tmp = this.file.resolveSibling(this.file.getFileName() + ".tmp");
+        Files.write(tmp, remaining, StandardCharsets.UTF_8);
+        Files.move(tmp, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        openChannel();
+    }
+
+    private void openChannel() throws IOException {
+        this.channel = FileChannel.open(this.file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private static SqlWrite decodeWrite(JsonObject json) {
+        List<Object[]> rows = new ArrayList<>();
+        for (JsonElement jsonRow : json.getAsJsonArray("rows")) {
+            JsonArray values = jsonRow.getAsJsonArray();
+            Object[] row = new Object[values.size()];
+            for (int i = 0; i < row.length; i++) {
+                row[i] = decode(values.get(i).getAsJsonObject());
+            }
+            rows.add(row);
+        }
+        return new SqlWrite(json.get("sql").getAsString(), rows);
+    }
+
+    private static JsonObject encode(Object value) {
+        JsonObject json = new JsonObject();
+        if (value == null) {
+            json.addProperty("t", "n");
+        } else if (value instanceof Integer i) {
+            json.addProperty("t", "i");
+            json.addProperty("v", i);
+        } else if (value instanceof Long l) {
+            json.addProperty("t", "l");
+            json.addProperty("v", l);
+        } else if (value instanceof Number n) {
+            json.addProperty("t", "d");
+            json.addProperty("v", n.doubleValue());
+        } else if (value instanceof Boolean b) {
+            json.addProperty("t", "b");
+            json.addProperty("v", b);
+        } else {
+            json.addProperty("t", "s");
+            json.addProperty("v", value.toString());
+        }
+        return json;
+    }
+
+    private static Object decode(JsonObject json) {
+        return switch (json.get("t").getAsString()) {
+            case "i" -> json.get("v").getAsInt();
+            case "l" -> json.get("v").getAsLong();
+            case "d" -> json.get("v").getAsDouble();
+            case "b" -> json.get("v").getAsBoolean();
+            case "s" -> json.get("v").getAsString();
+            default -> null;
+        };
+    }
+}
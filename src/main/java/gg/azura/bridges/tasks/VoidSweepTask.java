@@ -0,0 +1,48 @@
+package gg.azura.bridges.tasks;
+
+import gg.azura.bridges.BridgePlayer;
+import gg.azura.bridges.Bridges;
+import gg.azura.bridges.services.PlayerManager;
+import org.bukkit.GameMode;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitRunnable;
+
+/**
+ * Kills players below the death plane, once per tick at most.
+ * <p>
+ * Runs every tick over the loaded players, skipping everyone not flagged as
+ * in an FFA world, and compares the block Y cached on their last block
+ * change against {@code death_y}. Each life is killed at most once, so a
+ * falling player costs one damage call however many move packets they send
+ * before the death resolves. The flag is cleared on respawn, or right away
+ * if the damage was cancelled or survived, so the next tick tries again.
+ */
+public class VoidSweepTask extends BukkitRunnable {
+
+    private final Bridges plugin;
+    private final PlayerManager playerManager;
+
+    public VoidSweepTask(Bridges plugin) {
+        this.plugin = plugin;
+        this.playerManager = plugin.getSM().getPlayerManager();
+    }
+
+    @Override
+    public void run() {
+        int deathY = this.plugin.getSM().getVariables().getFfaConfig().deathY();
+        for (BridgePlayer user : this.playerManager.getLoadedView()) {
+            if (!user.isInFFAWorld() || user.getBlockY() >= deathY || user.isVoidKilled())
+                continue;
+            Player player = user.getPlayer();
+            if (player == null || player.isDead())
+                continue;
+            GameMode mode = player.getGameMode();
+            if (mode != GameMode.SURVIVAL && mode != GameMode.ADVENTURE)
+                continue;
+            user.setVoidKilled(true);
+            player.damage(player.getMaxHealth());
+            if (!player.isDead() && player.getHealth() > 0.0D)
+                user.setVoidKilled(false);
+        }
+    }
+}
@@ -40,6 +40,12 @@ public class PAPIExpansion extends PlaceholderExpansion {
                 return p.getName();
             case "coins":
                 return String.valueOf(p.getCoins());
+            case "earned_hour":
+                return String.valueOf(p.getEarnedThisHour());
+            case "earned_today":
+                return String.valueOf(p.getEarnedToday());
+            case "earned_week":
+                return String.valueOf(p.getEarnedThisWeek());
             case "block":
                 return (p.getSelectedBlockItem() == null) ? "None" : p.getSelectedBlockItem().getItem().getItemMeta().getItemName();
         }
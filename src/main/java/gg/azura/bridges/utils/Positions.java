@@ -0,0 +1,31 @@
+package gg.azura.bridges.utils;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+
+/**
+ * Position reads for hot paths.
+ * <p>
+ * {@link Entity#getLocation()} allocates a new {@link Location} per call.
+ * {@link #of(Entity)} copies the position into a per-thread scratch instance
+ * instead; the result is only valid until the next call on the same thread,
+ * so read what is needed from it and never store it.
+ */
+public final class Positions {
+
+    private static final ThreadLocal<Location> SCRATCH = ThreadLocal.withInitial(() -> new Location(null, 0.0D, 0.0D, 0.0D));
+
+    private Positions() {
+    }
+
+    /**
+     * @return the entity's position in this thread's scratch location
+     */
+    public static Location of(Entity entity) {
+        return entity.getLocation(SCRATCH.get());
+    }
+
+    public static boolean sameBlock(Location a, Location b) {
+        return a.getBlockY() == b.getBlockY() && a.getBlockX() == b.getBlockX() && a.getBlockZ() == b.getBlockZ();
+    }
+}
@@ -12,6 +12,7 @@ import org.bukkit.inventory.meta.ItemMeta;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public class SpawnUtils {
@@ -42,7 +43,17 @@ public class SpawnUtils {
     }
 
     public static Location jsonToLocation(JsonObject json) {
-        World world = plugin.getServer().getWorld(json.get("world").getAsString());
+        return toLocation(json, plugin.getServer().getWorld(json.get("world").getAsString()));
+    }
+
+    /**
+     * Resolves the world from a map taken on the main thread, so this can run off it
+     */
+    public static Location jsonToLocation(JsonObject json, Map<String, World> worlds) {
+        return toLocation(json, worlds.get(json.get("world").getAsString()));
+    }
+
+    private static Location toLocation(JsonObject json, World world) {
         double x = json.get("x").getAsDouble();
         double y = json.get("y").getAsDouble();
         double z = json.get("z").getAsDouble();
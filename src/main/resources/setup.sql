@@ -1,9 +1,60 @@
 CREATE TABLE IF NOT EXISTS bridgeffa_players
 (
     uuid                   varchar(36) PRIMARY KEY,
+    name                   varchar(16),
     coins                  integer  DEFAULT 0,
     blocks_unlocked        longtext DEFAULT '{}',
     block_selected         longtext DEFAULT 'AIR',
     deathmessages_unlocked longtext DEFAULT '[]',
-    deathmessage_selected  int DEFAULT 1
-);
\ No newline at end of file
+    deathmessage_selected  int DEFAULT 1,
+    INDEX idx_bridgeffa_players_name (name)
+);
+
+CREATE TABLE IF NOT EXISTS player_stats
+(
+    uuid         varchar(36) PRIMARY KEY,
+    kills        integer NOT NULL DEFAULT 0,
+    deaths       integer NOT NULL DEFAULT 0,
+    best_streak  integer NOT NULL DEFAULT 0,
+    last_updated timestamp DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS bridgeffa_stat_flushes
+(
+    batch_id   varchar(36) PRIMARY KEY,
+    applied    tinyint     NOT NULL DEFAULT 0,
+    created_at bigint      NOT NULL,
+    INDEX idx_stat_flushes_created (created_at)
+);
+
+-- The plugin adds these indexes to older transactions tables on startup
+CREATE TABLE IF NOT EXISTS transactions
+(
+    id        bigint AUTO_INCREMENT PRIMARY KEY,
+    op_id     varchar(36) UNIQUE,
+    player_id varchar(36) NOT NULL,
+    type      varchar(16) NOT NULL,
+    amount    double      NOT NULL,
+    timestamp bigint      NOT NULL,
+    applied   tinyint     NOT NULL DEFAULT 1,
+    INDEX idx_transactions_player_time (player_id, timestamp),
+    INDEX idx_transactions_player_id (player_id, id)
+);
+
+CREATE TABLE IF NOT EXISTS bridgeffa_economy_totals
+(
+    uuid       varchar(36) PRIMARY KEY,
+    earned     double NOT NULL DEFAULT 0,
+    spent      double NOT NULL DEFAULT 0,
+    tx_count   bigint NOT NULL DEFAULT 0,
+    last_tx_id bigint NOT NULL DEFAULT 0
+);
+
+CREATE TABLE IF NOT EXISTS bridgeffa_balance_snapshots
+(
+    uuid       varchar(36) NOT NULL,
+    ledger_id  bigint      NOT NULL,
+    balance    double      NOT NULL,
+    created_at bigint      NOT NULL,
+    PRIMARY KEY (uuid, ledger_id)
+);